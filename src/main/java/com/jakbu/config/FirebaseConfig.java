@@ -5,6 +5,7 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,6 +15,7 @@ import java.io.InputStream;
 import java.util.Base64;
 
 @Configuration
+@ConditionalOnProperty(name = "notification.gateway", havingValue = "fcm", matchIfMissing = true)
 public class FirebaseConfig {
 
     @Value("${firebase.config-base64}")
@@ -0,0 +1,52 @@
+package com.jakbu.config;
+
+import com.jakbu.domain.Todo;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo ID 할당 테이블을 기존 todos(보관 포함)의 최대 ID 뒤로 맞춤
+ * - IDENTITY로 쌓인 기존 ID와 새로 할당되는 ID가 겹치지 않도록 요청을 받기 전에 실행
+ * - EntityManagerFactory를 주입받아 스키마 생성(ddl-auto) 이후에 실행되도록 보장
+ */
+@Component
+public class TodoIdGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoIdGeneratorConfig.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TodoIdGeneratorConfig(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignTodoIdGenerator() {
+        // 보관된 Todo도 ID를 유지하므로 todos_archive까지 포함 (최신 행이 모두 보관된 경우 대비)
+        Long maxId = jdbcTemplate.queryForObject("SELECT GREATEST(" +
+                "(SELECT COALESCE(MAX(id), 0) FROM todos), " +
+                "(SELECT COALESCE(MAX(id), 0) FROM todos_archive))", Long.class);
+        // 할당 단위만큼 여유를 두어 이미 확보된 구간과도 겹치지 않게 함
+        long floor = maxId + Todo.ID_ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update("UPDATE " + Todo.ID_GENERATOR_TABLE +
+                " SET next_val = ? WHERE gen_name = ? AND next_val < ?", floor, Todo.ID_GENERATOR_KEY, floor);
+        if (updated > 0) {
+            logger.info("Moved todo id generator to {}", floor);
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO " + Todo.ID_GENERATOR_TABLE + " (gen_name, next_val) VALUES (?, ?)",
+                    Todo.ID_GENERATOR_KEY, floor);
+            logger.info("Initialized todo id generator at {}", floor);
+        } catch (DataIntegrityViolationException e) {
+            // 이미 행이 있고 충분히 앞서 있거나, 다른 인스턴스가 먼저 만든 경우
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jakbu.controller;
 
+import com.jakbu.dto.AccountDeletionResponse;
 import com.jakbu.dto.AuthRequest;
 import com.jakbu.dto.AuthResponse;
 import com.jakbu.dto.LoginRequest;
@@ -45,11 +46,13 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 탈퇴 요청만 기록하고 202로 응답 (데이터 삭제는 백그라운드에서 진행)
+     */
     @DeleteMapping("/account")
-    public ResponseEntity<Void> deleteAccount(Authentication authentication) {
+    public ResponseEntity<AccountDeletionResponse> deleteAccount(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        authService.deleteAccount(userId);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().body(authService.deleteAccount(userId));
     }
 }
 
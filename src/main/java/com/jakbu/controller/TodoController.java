@@ -1,19 +1,37 @@
 package com.jakbu.controller;
 
+import com.jakbu.dto.TodoBatchCreateRequest;
+import com.jakbu.dto.TodoBatchUpdateRequest;
+import com.jakbu.dto.TodoCalendarResponse;
+import com.jakbu.dto.TodoChangesResponse;
 import com.jakbu.dto.TodoRequest;
 import com.jakbu.dto.TodoResponse;
+import com.jakbu.dto.TodoStatsResponse;
 import com.jakbu.dto.TodoStatusUpdateRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jakbu.service.TodoCalendarService;
+import com.jakbu.service.TodoChangeService;
 import com.jakbu.service.TodoService;
+import com.jakbu.service.TodoStatsService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 
@@ -22,10 +40,24 @@ import java.util.Map;
 public class TodoController {
 
     private static final Logger logger = LoggerFactory.getLogger(TodoController.class);
+    private static final long MAX_RANGE_DAYS = 366;
+
     private final TodoService todoService;
+    private final TodoChangeService todoChangeService;
+    private final TodoStatsService todoStatsService;
+    private final TodoCalendarService todoCalendarService;
+    private final ObjectMapper objectMapper;
 
-    public TodoController(TodoService todoService) {
+    public TodoController(TodoService todoService,
+                          TodoChangeService todoChangeService,
+                          TodoStatsService todoStatsService,
+                          TodoCalendarService todoCalendarService,
+                          ObjectMapper objectMapper) {
         this.todoService = todoService;
+        this.todoChangeService = todoChangeService;
+        this.todoStatsService = todoStatsService;
+        this.todoCalendarService = todoCalendarService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -37,17 +69,35 @@ public class TodoController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TodoResponse>> createTodos(
+            @Valid @RequestBody TodoBatchCreateRequest request,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        List<TodoResponse> response = todoService.createTodos(userId, request.todos());
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/batch")
+    public ResponseEntity<List<TodoResponse>> updateTodos(
+            @Valid @RequestBody TodoBatchUpdateRequest request,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        List<TodoResponse> response = todoService.updateTodos(userId, request.todos());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/today")
-    public ResponseEntity<List<TodoResponse>> getTodayTodos(Authentication authentication) {
+    public ResponseEntity<List<TodoResponse>> getTodayTodos(Authentication authentication, WebRequest webRequest) {
         Long userId = (Long) authentication.getPrincipal();
-        List<TodoResponse> todos = todoService.getTodayTodos(userId);
-        return ResponseEntity.ok(todos);
+        return conditionalTodos(userId, LocalDate.now(), webRequest);
     }
 
     @GetMapping("/date")
     public ResponseEntity<?> getTodosByDate(
             @RequestParam(required = false) String date,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         try {
             logger.info("GET /todo/date called with date parameter: {}", date);
             
@@ -73,10 +123,12 @@ public class TodoController {
             Long userId = (Long) authentication.getPrincipal();
             logger.info("Fetching todos for userId: {}, date: {}", userId, parsedDate);
             
-            List<TodoResponse> todos = todoService.getTodosByDate(userId, parsedDate);
-            logger.info("Found {} todos for userId: {}, date: {}", todos.size(), userId, parsedDate);
-            
-            return ResponseEntity.ok(todos);
+            ResponseEntity<List<TodoResponse>> response = conditionalTodos(userId, parsedDate, webRequest);
+            if (response.hasBody()) {
+                logger.info("Found {} todos for userId: {}, date: {}", response.getBody().size(), userId, parsedDate);
+            }
+
+            return response;
         } catch (Exception e) {
             logger.error("Error fetching todos by date", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -86,6 +138,119 @@ public class TodoController {
         }
     }
 
+    /**
+     * 날짜별 목록을 ETag와 함께 응답
+     * - If-None-Match가 현재 ETag와 같으면 목록을 읽거나 직렬화하지 않고 304 응답
+     * - ETag 헤더와 304 판단은 checkNotModified에서만 처리 (응답에 다시 ETag를 붙이면 조건부 처리가 한 번 더 실행됨)
+     * - ETag를 목록보다 먼저 읽어, 그 사이 변경되더라도 새 목록에 이전 ETag가 붙을 뿐 반대가 되지 않음
+     * - 반복 템플릿이 바뀌면 펼쳐지는 항목이 바뀌므로 템플릿 버전도 ETag에 포함
+     * - /todo/today는 자정에 가리키는 날짜가 바뀌고 Todo가 없는 날짜는 버전이 모두 0이므로 날짜도 포함
+     */
+    private ResponseEntity<List<TodoResponse>> conditionalTodos(Long userId, LocalDate date, WebRequest webRequest) {
+        long version = todoService.getTodosVersion(userId, date);
+        long templatesVersion = todoService.getTemplatesVersion(userId);
+        String eTag = "\"" + userId + "-" + date + "-" + version + "-" + templatesVersion + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        List<TodoResponse> todos = todoService.getTodosByDate(userId, date, version, templatesVersion);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(todos);
+    }
+
+    /**
+     * 기간 내 Todo를 날짜별로 묶어 스트리밍 응답
+     * - [{"date": "...", "todos": [...]}, ...] 형태, Todo가 없는 날짜는 생략
+     * - 아직 저장되지 않은 반복 템플릿 항목도 날짜별 조회와 같이 각 날짜의 끝에 포함
+     * - 조회 결과를 목록으로 모으지 않고 읽는 대로 바로 씀
+     */
+    @GetMapping("/range")
+    public ResponseEntity<?> getTodosInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", "Invalid range. 'from' must not be after 'to' and the range must not exceed " + MAX_RANGE_DAYS + " days",
+                                 "error", "INVALID_DATE_RANGE",
+                                 "status", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        Long userId = (Long) authentication.getPrincipal();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                writeGroupedByDate(generator, userId, from, to);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private void writeGroupedByDate(JsonGenerator generator, Long userId, LocalDate from, LocalDate to) throws IOException {
+        LocalDate[] currentDate = new LocalDate[1];
+
+        generator.writeStartArray();
+        try {
+            todoService.forEachTodoInRange(userId, from, to, todo -> {
+                try {
+                    if (!todo.date().equals(currentDate[0])) {
+                        if (currentDate[0] != null) {
+                            generator.writeEndArray();
+                            generator.writeEndObject();
+                        }
+                        currentDate[0] = todo.date();
+                        generator.writeStartObject();
+                        generator.writeStringField("date", todo.date().toString());
+                        generator.writeArrayFieldStart("todos");
+                    }
+                    generator.writeObject(todo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (currentDate[0] != null) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        TodoChangesResponse response = todoChangeService.getChangesSince(userId, since);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TodoStatsResponse> getStats(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        TodoStatsResponse response = todoStatsService.getStats(userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 월 달력 (날짜별 Todo 유무와 모두 완료 여부), month는 YYYY-MM
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<TodoCalendarResponse> getCalendar(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        TodoCalendarResponse response = todoCalendarService.getCalendar(userId, month);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{id}/done")
     public ResponseEntity<TodoResponse> markTodoDone(
             @PathVariable Long id,
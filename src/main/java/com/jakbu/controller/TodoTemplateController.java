@@ -0,0 +1,69 @@
+package com.jakbu.controller;
+
+import com.jakbu.dto.TodoResponse;
+import com.jakbu.dto.TodoTemplateRequest;
+import com.jakbu.dto.TodoTemplateResponse;
+import com.jakbu.service.TodoTemplateService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/todo/templates")
+public class TodoTemplateController {
+
+    private final TodoTemplateService todoTemplateService;
+
+    public TodoTemplateController(TodoTemplateService todoTemplateService) {
+        this.todoTemplateService = todoTemplateService;
+    }
+
+    @PostMapping
+    public ResponseEntity<TodoTemplateResponse> createTemplate(
+            @Valid @RequestBody TodoTemplateRequest request,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        TodoTemplateResponse response = todoTemplateService.createTemplate(userId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TodoTemplateResponse>> getTemplates(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(todoTemplateService.getTemplates(userId));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> endTemplate(
+            @PathVariable Long id,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        todoTemplateService.endTemplate(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<TodoResponse> materializeOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        TodoResponse response = todoTemplateService.materializeOccurrence(userId, id, date);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<Void> skipOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        todoTemplateService.skipOccurrence(userId, id, date);
+        return ResponseEntity.noContent().build();
+    }
+}
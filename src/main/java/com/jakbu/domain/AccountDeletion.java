@@ -0,0 +1,47 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 진행 상황
+ * - 탈퇴 요청 시 생성되고, 백그라운드 작업이 Todo를 나눠 지울 때마다 deletedTodos가 늘어남
+ * - 사용자 행을 지운 뒤 completedAt이 채워짐 (users에 대한 외래 키 없음)
+ */
+@Entity
+@Table(name = "account_deletions", indexes = {
+        @Index(name = "idx_account_deletions_requested", columnList = "requested_at")
+})
+@Getter
+@NoArgsConstructor
+public class AccountDeletion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "deleted_todos", nullable = false)
+    private long deletedTodos;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public AccountDeletion(Long userId, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.requestedAt = requestedAt;
+    }
+
+    public void complete(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jakbu.domain;
+
+import com.jakbu.domain.enums.TodoStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간(todo.archive.horizon-days)이 지나 todos에서 옮긴 Todo
+ * - 열은 todos와 같고 ID도 그대로 유지 (조회 전용)
+ * - 조회는 TodoRepository(TodoArchiveReads)가 날짜에 따라 todos와 함께 읽음
+ */
+@Entity
+@Table(name = "todos_archive", indexes = {
+        @Index(name = "idx_todos_archive_user_date", columnList = "user_id, date"),
+        @Index(name = "idx_todos_archive_template_date", columnList = "template_id, date")
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedTodo {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TodoStatus status;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "template_id")
+    private Long templateId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,40 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구간 단위로 나눠 처리하는 배치 작업의 진행 위치
+ * - runKey: 작업 회차 (예: 초기화 기준 날짜), 회차가 바뀌면 처음부터 다시 시작
+ * - lastPosition: 마지막으로 커밋한 구간의 끝 키, 재시작하면 그다음부터 이어서 처리
+ * - targetPosition: 회차를 시작할 때 정한 마지막 키 (시작 후 생긴 키는 이번 회차 대상이 아님)
+ * - finished: 회차를 끝까지 처리했는지 (끝난 회차는 다시 실행하지 않음)
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@NoArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 50)
+    private String runKey;
+
+    @Column(nullable = false)
+    private long lastPosition;
+
+    @Column(nullable = false)
+    private long targetPosition;
+
+    @Column(nullable = false)
+    private boolean finished;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -6,7 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notification_settings")
+@Table(name = "notification_settings",
+        indexes = @Index(name = "idx_notification_settings_interval_slot", columnList = "interval_type, reminder_slot"))
 @Getter
 @NoArgsConstructor
 public class NotificationSetting {
@@ -26,15 +27,21 @@ public class NotificationSetting {
     @Column(nullable = false)
     private Boolean enabled;
 
+    // 알림 주기 내에서 이 사용자에게 알림을 보내는 분 (IntervalType.slotOf)
+    @Column
+    private Integer reminderSlot;
+
     public NotificationSetting(User user, IntervalType intervalType, Boolean enabled) {
         this.user = user;
         this.intervalType = intervalType;
         this.enabled = enabled;
+        this.reminderSlot = intervalType.slotOf(user.getId());
     }
 
     public void updateSetting(IntervalType intervalType, Boolean enabled) {
         this.intervalType = intervalType;
         this.enabled = enabled;
+        this.reminderSlot = intervalType.slotOf(user.getId());
     }
 }
 
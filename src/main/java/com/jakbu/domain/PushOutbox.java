@@ -0,0 +1,54 @@
+package com.jakbu.domain;
+
+import com.jakbu.domain.enums.PushOutboxStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 중인 푸시 메시지
+ * - PENDING: nextAttemptAt 이후 발송 대상
+ * - SENDING: 워커가 점유 중이며 nextAttemptAt은 점유 만료 시각 (만료되면 다시 발송 대상)
+ * - SENT / FAILED: 처리 완료
+ */
+@Entity
+@Table(name = "push_outbox",
+        indexes = @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor
+public class PushOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String fcmToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 100)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
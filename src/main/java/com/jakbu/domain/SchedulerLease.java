@@ -0,0 +1,29 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 권한(리스)
+ * - holder: 리스를 가진 인스턴스 ID
+ * - expiresAt이 지나면 다른 인스턴스가 가져갈 수 있음
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String holder;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
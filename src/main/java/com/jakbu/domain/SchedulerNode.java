@@ -0,0 +1,25 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터에 참여 중인 인스턴스
+ * - heartbeatAt이 일정 시간 이상 갱신되지 않으면 떠난 것으로 간주
+ */
+@Entity
+@Table(name = "scheduler_nodes")
+@Getter
+@NoArgsConstructor
+public class SchedulerNode {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+}
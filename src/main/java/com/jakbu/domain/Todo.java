@@ -6,19 +6,40 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 사용자/날짜 조회와 계산 상태 조건(EFFECTIVE_DONE은 status가 아닌 completed_at으로 판단)을 한 인덱스로 처리
+        @Index(name = "idx_todos_user_date_completed", columnList = "user_id, date, completed_at"),
+        // 변경 조회(GET /todo/changes)
+        @Index(name = "idx_todos_user_change_seq", columnList = "user_id, change_seq"),
+        // 보관 대상 조회(findIdsDatedBefore): 오래된 날짜 범위만 date, id 순으로 읽음 (보조 인덱스 끝에 기본 키가 붙음)
+        @Index(name = "idx_todos_date", columnList = "date")
+}, uniqueConstraints = {
+        // 반복 템플릿의 한 날짜 항목은 한 행만 저장
+        @UniqueConstraint(name = "uk_todos_template_date", columnNames = {"template_id", "date"})
+})
 @Getter
 @NoArgsConstructor
 public class Todo {
 
+    public static final String ID_GENERATOR_TABLE = "id_generators";
+    public static final String ID_GENERATOR_KEY = "todos";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 INSERT마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 테이블 기반 할당(50개씩 미리 확보)을 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = ID_GENERATOR_TABLE,
+            pkColumnName = "gen_name", valueColumnName = "next_val",
+            pkColumnValue = ID_GENERATOR_KEY, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    // 파티션 테이블은 외래 키를 둘 수 없어 스키마 자동 갱신(ddl-auto)이 다시 만들지 않도록 제약을 생성하지 않음
+    // (계정 삭제는 Todo를 모두 지운 뒤 사용자 행을 지우므로 참조 무결성은 애플리케이션이 보장)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(nullable = false)
@@ -27,35 +48,87 @@ public class Todo {
     @Column(nullable = false)
     private LocalDate date;
 
+    // 저장된 상태: 완료 처리되면 DONE이며 자정에 되돌리지 않음 (날짜가 지난 완료는 getStatusOn에서 TODO로 계산)
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TodoStatus status;
 
+    // 완료 처리한 시각 (DONE일 때만 값이 있음)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 마지막으로 바뀐 트랜잭션의 사용자 변경 번호 (TodoChangeCursor.seq), 도입 전 행은 null
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // 반복 템플릿에서 저장된 항목이면 템플릿 ID (TodoTemplate.id)
+    @Column(name = "template_id")
+    private Long templateId;
+
     public Todo(User user, String title, LocalDate date) {
+        this(user, title, date, null);
+    }
+
+    public Todo(User user, String title, LocalDate date, Long templateId) {
         this.user = user;
         this.title = title;
         this.date = date;
         this.status = TodoStatus.TODO;
+        this.templateId = templateId;
+    }
+
+    /**
+     * today 기준 상태: 완료된 Todo라도 날짜와 완료한 날이 모두 today 이전이면 TODO
+     * (예전의 자정 일괄 초기화와 같은 결과, TodoRepository.EFFECTIVE_STATUS와 같은 규칙)
+     */
+    public TodoStatus getStatusOn(LocalDate today) {
+        boolean done = completedAt != null
+                && (!date.isBefore(today) || !completedAt.toLocalDate().isBefore(today));
+        return done ? TodoStatus.DONE : TodoStatus.TODO;
+    }
+
+    /**
+     * 자기 날짜까지 완료했는지 (통계에서 그날 완료한 Todo로 세는 기준, TodoRepository.findDayCompletions와 같은 규칙)
+     */
+    public boolean isCompletedOnTime() {
+        return completedAt != null && !completedAt.toLocalDate().isAfter(date);
+    }
+
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public void updateTitle(String title) {
+        this.title = title;
     }
 
     public void markDone() {
         this.status = TodoStatus.DONE;
+        this.completedAt = LocalDateTime.now();
     }
 
     public void markUndo() {
         this.status = TodoStatus.TODO;
+        this.completedAt = null;
     }
 
     public void toggleStatus() {
-        if (this.status == TodoStatus.TODO) {
-            this.status = TodoStatus.DONE;
+        if (getStatusOn(LocalDate.now()) == TodoStatus.TODO) {
+            markDone();
         } else {
-            this.status = TodoStatus.TODO;
+            markUndo();
         }
     }
 
+    /**
+     * 이미 같은 상태면 완료 시각을 바꾸지 않음
+     */
     public void setDone(boolean done) {
-        this.status = done ? TodoStatus.DONE : TodoStatus.TODO;
+        boolean doneNow = getStatusOn(LocalDate.now()) == TodoStatus.DONE;
+        if (done && !doneNow) {
+            markDone();
+        } else if (!done && doneNow) {
+            markUndo();
+        }
     }
 }
-
@@ -0,0 +1,28 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Todo 변경 번호
+ * - Todo를 바꾸는 트랜잭션마다 seq를 1 올리고, 바뀐 Todo/삭제 기록에 그 값을 남김
+ * - 같은 사용자의 변경은 이 행의 잠금으로 직렬화되므로 seq 순서가 커밋 순서와 같음
+ * - purgedSeq 이하의 삭제 기록은 정리되었으므로, 그보다 오래된 커서는 전체 동기화가 필요
+ */
+@Entity
+@Table(name = "todo_change_cursors")
+@Getter
+@NoArgsConstructor
+public class TodoChangeCursor {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long seq;
+
+    @Column(nullable = false)
+    private long purgedSeq;
+}
@@ -0,0 +1,94 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 반복 Todo 템플릿 (매일 또는 지정한 요일)
+ * - 날짜별 항목은 조회 시점에 펼쳐 보여주고, 완료하거나 수정한 날짜만 Todo 행(templateId)으로 저장
+ * - daysOfWeek: 월요일부터 일요일까지 7자리, 해당 요일이면 '1' (예: 평일 "1111100")
+ * - endDate가 있으면 그 날짜까지만 반복
+ * - version은 템플릿이 만들어지거나 끝날 때의 시각(ms), 사용자별 최댓값을 날짜별 목록 ETag에 포함
+ */
+@Entity
+@Table(name = "todo_templates", indexes = {
+        @Index(name = "idx_todo_templates_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor
+public class TodoTemplate {
+
+    public static final String EVERY_DAY = "1111111";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "days_of_week", nullable = false, length = 7)
+    private String daysOfWeek;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private long version;
+
+    public TodoTemplate(User user, String title, String daysOfWeek, LocalDate startDate) {
+        this.user = user;
+        this.title = title;
+        this.daysOfWeek = daysOfWeek;
+        this.startDate = startDate;
+        this.version = System.currentTimeMillis();
+    }
+
+    public boolean occursOn(LocalDate date) {
+        return !date.isBefore(startDate)
+                && (endDate == null || !date.isAfter(endDate))
+                && daysOfWeek.charAt(date.getDayOfWeek().getValue() - 1) == '1';
+    }
+
+    /**
+     * lastDate 다음 날부터 반복하지 않음 (이미 끝난 템플릿이면 더 앞당기기만 함)
+     */
+    public void end(LocalDate lastDate) {
+        if (endDate == null || lastDate.isBefore(endDate)) {
+            this.endDate = lastDate;
+        }
+        this.version = Math.max(version + 1, System.currentTimeMillis());
+    }
+
+    public List<DayOfWeek> getDaysOfWeekList() {
+        return Arrays.stream(DayOfWeek.values())
+                .filter(day -> daysOfWeek.charAt(day.getValue() - 1) == '1')
+                .toList();
+    }
+
+    /**
+     * 요일 목록을 7자리 표현으로 변환 (비어 있으면 매일)
+     */
+    public static String toDaysOfWeek(Collection<DayOfWeek> days) {
+        if (days == null || days.isEmpty()) {
+            return EVERY_DAY;
+        }
+        char[] flags = "0000000".toCharArray();
+        days.forEach(day -> flags[day.getValue() - 1] = '1');
+        return new String(flags);
+    }
+}
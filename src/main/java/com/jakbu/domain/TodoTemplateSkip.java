@@ -0,0 +1,38 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 템플릿에서 건너뛴 날짜 (그 날짜의 항목을 삭제한 경우)
+ * - 저장된 Todo 행이 없어도 해당 날짜에 다시 펼쳐지지 않도록 남김
+ */
+@Entity
+@Table(name = "todo_template_skips", indexes = {
+        @Index(name = "idx_todo_template_skips_user", columnList = "user_id")
+})
+@IdClass(TodoTemplateSkipId.class)
+@Getter
+@NoArgsConstructor
+public class TodoTemplateSkip {
+
+    @Id
+    @Column(name = "template_id")
+    private Long templateId;
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    public TodoTemplateSkip(Long templateId, LocalDate date, Long userId) {
+        this.templateId = templateId;
+        this.date = date;
+        this.userId = userId;
+    }
+}
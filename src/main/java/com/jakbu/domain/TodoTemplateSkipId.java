@@ -0,0 +1,20 @@
+package com.jakbu.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@EqualsAndHashCode
+public class TodoTemplateSkipId implements Serializable {
+
+    private Long templateId;
+    private LocalDate date;
+
+    public TodoTemplateSkipId(Long templateId, LocalDate date) {
+        this.templateId = templateId;
+        this.date = date;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 Todo 기록 (다른 기기가 변경 조회로 삭제를 알 수 있도록 일정 기간 보관)
+ */
+@Entity
+@Table(name = "todo_tombstones",
+        indexes = {
+                @Index(name = "idx_todo_tombstones_user_seq", columnList = "user_id, change_seq"),
+                @Index(name = "idx_todo_tombstones_deleted_at", columnList = "deleted_at")
+        })
+@Getter
+@NoArgsConstructor
+public class TodoTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long todoId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TodoTombstone(Long userId, Long todoId, long changeSeq) {
+        this.userId = userId;
+        this.todoId = todoId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
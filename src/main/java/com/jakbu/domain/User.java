@@ -43,6 +43,12 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 탈퇴 요청 시각 (탈퇴 처리 중인 계정은 로그인/토큰 재발급 불가, 데이터 정리 후 행 삭제)
+     */
+    @Column(nullable = true)
+    private LocalDateTime deletedAt;
+
     public User(String accountId, String password, String name) {
         this.accountId = accountId;
         this.password = password;
@@ -56,5 +62,18 @@ public class User {
     public void updateRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    /**
+     * 탈퇴 처리 시작: 토큰 재발급과 푸시 발송에 쓰이는 값을 지움
+     */
+    public void markDeleted(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+        this.refreshToken = null;
+        this.fcmToken = null;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
 
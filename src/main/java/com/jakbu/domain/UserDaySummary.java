@@ -0,0 +1,38 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/날짜별 Todo 개수 요약
+ * - TodoService의 변경과 같은 트랜잭션에서 증감하므로 todos를 스캔하지 않고 조회 가능
+ * - total > done 이면 미완료 Todo가 있음
+ * - version은 해당 날짜의 Todo가 바뀔 때마다 커지는 값 (ETag로 사용)
+ */
+@Entity
+@Table(name = "user_day_summary")
+@IdClass(UserDaySummaryId.class)
+@Getter
+@NoArgsConstructor
+public class UserDaySummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int done;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,22 @@
+package com.jakbu.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode
+public class UserDaySummaryId implements Serializable {
+
+    private Long userId;
+    private LocalDate date;
+
+    public UserDaySummaryId(Long userId, LocalDate date) {
+        this.userId = userId;
+        this.date = date;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/월별 달력 비트
+ * - 비트 i는 (i + 1)일 (31일까지이므로 int 하나에 들어감)
+ * - hasTodos: Todo가 있는 날, allDone: 그날의 Todo를 모두 완료 처리한 날 (자정 초기화와 무관하게 completed_at 기준)
+ * - Todo 변경과 같은 트랜잭션에서 바뀐 날짜의 비트만 todos로 다시 계산
+ * - 저장된 Todo만 반영하며, 아직 저장되지 않은 반복 템플릿 항목은 TodoCalendarService가 조회 시 겹쳐 계산
+ */
+@Entity
+@Table(name = "user_month_calendar")
+@IdClass(UserMonthCalendarId.class)
+@Getter
+@NoArgsConstructor
+public class UserMonthCalendar {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private int hasTodos;
+
+    @Column(nullable = false)
+    private int allDone;
+
+    @Column(nullable = false)
+    private long version;
+}
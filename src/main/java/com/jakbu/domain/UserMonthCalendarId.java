@@ -0,0 +1,20 @@
+package com.jakbu.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@EqualsAndHashCode
+public class UserMonthCalendarId implements Serializable {
+
+    private Long userId;
+    private LocalDate monthStart;
+
+    public UserMonthCalendarId(Long userId, LocalDate monthStart) {
+        this.userId = userId;
+        this.monthStart = monthStart;
+    }
+}
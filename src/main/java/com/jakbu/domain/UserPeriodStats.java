@@ -0,0 +1,52 @@
+package com.jakbu.domain;
+
+import com.jakbu.domain.enums.StatsPeriod;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 주/월 단위 Todo 개수 (지난 날짜만, 오늘 분은 조회 시 user_day_summary에서 더함)
+ * - periodStart: 주는 월요일, 월은 1일
+ */
+@Entity
+@Table(name = "user_period_stats")
+@IdClass(UserPeriodStatsId.class)
+@Getter
+@NoArgsConstructor
+public class UserPeriodStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", length = 10)
+    private StatsPeriod periodType;
+
+    @Id
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int done;
+
+    public UserPeriodStats(Long userId, StatsPeriod periodType, LocalDate periodStart, int total, int done) {
+        this.userId = userId;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+        this.total = total;
+        this.done = done;
+    }
+
+    public void add(int total, int done) {
+        this.total += total;
+        this.done += done;
+    }
+}
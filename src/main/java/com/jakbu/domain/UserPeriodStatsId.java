@@ -0,0 +1,23 @@
+package com.jakbu.domain;
+
+import com.jakbu.domain.enums.StatsPeriod;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@EqualsAndHashCode
+public class UserPeriodStatsId implements Serializable {
+
+    private Long userId;
+    private StatsPeriod periodType;
+    private LocalDate periodStart;
+
+    public UserPeriodStatsId(Long userId, StatsPeriod periodType, LocalDate periodStart) {
+        this.userId = userId;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jakbu.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 연속 달성 기록
+ * - 하루에 완료한 Todo가 하나라도 있으면 달성한 날
+ * - currentStreak은 lastActiveDate로 끝나는 연속 일수 (조회 시 어제/오늘과 이어지는지 판단)
+ * - rolledDate까지의 날짜는 자정 집계에 반영됨 (같은 날짜를 두 번 집계하지 않도록)
+ */
+@Entity
+@Table(name = "user_streaks")
+@Getter
+@NoArgsConstructor
+public class UserStreak {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    private LocalDate lastActiveDate;
+
+    @Column(nullable = false)
+    private LocalDate rolledDate;
+
+    public UserStreak(Long userId, int currentStreak, int longestStreak, LocalDate lastActiveDate, LocalDate rolledDate) {
+        this.userId = userId;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.lastActiveDate = lastActiveDate;
+        this.rolledDate = rolledDate;
+    }
+}
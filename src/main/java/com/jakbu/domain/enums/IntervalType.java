@@ -1,6 +1,23 @@
 package com.jakbu.domain.enums;
 
 public enum IntervalType {
-    TWO_HOUR, FOUR_HOUR, DAILY
-}
+    TWO_HOUR(120), FOUR_HOUR(240), DAILY(60);
+
+    // 알림 주기를 1분 단위로 나눈 슬롯 수 (DAILY는 오전 9시대 60분)
+    private final int slotCount;
+
+    IntervalType(int slotCount) {
+        this.slotCount = slotCount;
+    }
 
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * 사용자 ID로 정해지는 알림 슬롯. 재시작과 무관하게 항상 같은 분에 알림이 발송됨
+     */
+    public int slotOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) slotCount);
+    }
+}
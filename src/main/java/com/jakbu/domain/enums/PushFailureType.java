@@ -0,0 +1,5 @@
+package com.jakbu.domain.enums;
+
+public enum PushFailureType {
+    INVALID_TOKEN, RETRYABLE, PERMANENT
+}
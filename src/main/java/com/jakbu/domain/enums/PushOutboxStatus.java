@@ -0,0 +1,5 @@
+package com.jakbu.domain.enums;
+
+public enum PushOutboxStatus {
+    PENDING, SENDING, SENT, FAILED
+}
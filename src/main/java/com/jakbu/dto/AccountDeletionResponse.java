@@ -0,0 +1,23 @@
+package com.jakbu.dto;
+
+import com.jakbu.domain.AccountDeletion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 진행 상황
+ * - status: PENDING(데이터 정리 중), COMPLETED(계정 삭제 완료)
+ */
+public record AccountDeletionResponse(
+        Long userId,
+        String status,
+        long deletedTodos,
+        LocalDateTime requestedAt,
+        LocalDateTime completedAt
+) {
+    public static AccountDeletionResponse of(AccountDeletion deletion) {
+        return new AccountDeletionResponse(deletion.getUserId(),
+                deletion.isCompleted() ? "COMPLETED" : "PENDING",
+                deletion.getDeletedTodos(), deletion.getRequestedAt(), deletion.getCompletedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.jakbu.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/날짜별 전체 Todo 수와 그날까지 완료한 수 (통계 재구축용)
+ */
+public record DayCompletion(
+        Long userId,
+        LocalDate date,
+        Long total,
+        Long done
+) {
+}
@@ -0,0 +1,7 @@
+package com.jakbu.dto;
+
+public record PushRecipient(
+        Long userId,
+        String fcmToken
+) {
+}
@@ -0,0 +1,25 @@
+package com.jakbu.dto;
+
+import com.jakbu.domain.enums.PushFailureType;
+
+public record PushSendResult(
+        String fcmToken,
+        boolean success,
+        String errorCode,
+        PushFailureType failureType
+) {
+    public static PushSendResult succeeded(String fcmToken) {
+        return new PushSendResult(fcmToken, true, null, null);
+    }
+
+    public static PushSendResult failed(String fcmToken, String errorCode, PushFailureType failureType) {
+        return new PushSendResult(fcmToken, false, errorCode, failureType);
+    }
+
+    /**
+     * 만료되었거나 잘못된 토큰이라 다시 보내도 성공할 수 없는 경우
+     */
+    public boolean isInvalidToken() {
+        return failureType == PushFailureType.INVALID_TOKEN;
+    }
+}
@@ -0,0 +1,12 @@
+package com.jakbu.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 템플릿의 한 날짜 (저장되었거나 건너뛴 항목, 통계 재계산용)
+ */
+public record TemplateOccurrence(
+        Long templateId,
+        LocalDate date
+) {
+}
@@ -0,0 +1,14 @@
+package com.jakbu.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TodoBatchUpdateRequest(
+        @NotEmpty(message = "todos is required")
+        @Size(max = 500, message = "todos must not exceed 500 items")
+        List<@Valid TodoUpdateItem> todos
+) {
+}
@@ -0,0 +1,35 @@
+package com.jakbu.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 Todo 캐시 무효화 메시지
+ * - userId + date: 한 사용자의 하루
+ * - userId만: 한 사용자의 모든 날짜
+ * - datesBefore만: 모든 사용자의 해당 날짜 이전 (자정 초기화)
+ */
+public record TodoCacheInvalidation(
+        Long userId,
+        LocalDate date,
+        LocalDate datesBefore
+) {
+
+    public static TodoCacheInvalidation day(Long userId, LocalDate date) {
+        return new TodoCacheInvalidation(userId, date, null);
+    }
+
+    public static TodoCacheInvalidation user(Long userId) {
+        return new TodoCacheInvalidation(userId, null, null);
+    }
+
+    public static TodoCacheInvalidation daysBefore(LocalDate date) {
+        return new TodoCacheInvalidation(null, null, date);
+    }
+
+    public boolean matches(Long cachedUserId, LocalDate cachedDate) {
+        if (datesBefore != null) {
+            return cachedDate.isBefore(datesBefore);
+        }
+        return userId.equals(cachedUserId) && (date == null || date.equals(cachedDate));
+    }
+}
@@ -0,0 +1,33 @@
+package com.jakbu.dto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월 달력: 비트 i는 (i + 1)일, days는 Todo가 있는 날만 풀어 놓은 목록
+ */
+public record TodoCalendarResponse(
+        YearMonth month,
+        int hasTodos,
+        int allDone,
+        List<Day> days
+) {
+    public record Day(
+            LocalDate date,
+            boolean allDone
+    ) {
+    }
+
+    public static TodoCalendarResponse of(YearMonth month, int hasTodos, int allDone) {
+        List<Day> days = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            int bit = 1 << (day - 1);
+            if ((hasTodos & bit) != 0) {
+                days.add(new Day(month.atDay(day), (allDone & bit) != 0));
+            }
+        }
+        return new TodoCalendarResponse(month, hasTodos, allDone, days);
+    }
+}
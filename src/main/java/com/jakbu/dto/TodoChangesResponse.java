@@ -0,0 +1,17 @@
+package com.jakbu.dto;
+
+import java.util.List;
+
+/**
+ * 변경 조회 결과
+ * - cursor: 다음 조회에 since로 넘길 값
+ * - fullSync: true면 changed가 사용자의 전체 Todo이므로 기기의 목록을 통째로 교체
+ * - changed: 생성/수정된 Todo (자정 초기화 포함), deleted: 삭제된 Todo ID
+ */
+public record TodoChangesResponse(
+        long cursor,
+        boolean fullSync,
+        List<TodoResponse> changed,
+        List<Long> deleted
+) {
+}
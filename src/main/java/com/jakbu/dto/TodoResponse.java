@@ -8,7 +8,14 @@ public record TodoResponse(
         Long id,
         String title,
         LocalDate date,
-        TodoStatus status
+        TodoStatus status,
+        Long templateId
 ) {
+    /**
+     * 아직 저장되지 않은 반복 템플릿 항목 (id 없음, 완료/수정하려면 먼저 저장)
+     */
+    public static TodoResponse occurrence(Long templateId, String title, LocalDate date) {
+        return new TodoResponse(null, title, date, TodoStatus.TODO, templateId);
+    }
 }
 
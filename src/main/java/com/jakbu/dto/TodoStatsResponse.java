@@ -0,0 +1,27 @@
+package com.jakbu.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 연속 달성 일수와 이번 주/이번 달 완료율
+ */
+public record TodoStatsResponse(
+        int currentStreak,
+        int longestStreak,
+        PeriodStats week,
+        PeriodStats month
+) {
+    /**
+     * completionRate: 기간 시작부터 오늘까지 날짜의 Todo 중 완료한 비율 (0.0 ~ 1.0, Todo가 없으면 0.0)
+     */
+    public record PeriodStats(
+            LocalDate start,
+            int total,
+            int done,
+            double completionRate
+    ) {
+        public static PeriodStats of(LocalDate start, int total, int done) {
+            return new PeriodStats(start, total, done, total == 0 ? 0.0 : (double) done / total);
+        }
+    }
+}
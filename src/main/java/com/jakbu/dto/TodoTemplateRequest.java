@@ -0,0 +1,20 @@
+package com.jakbu.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * daysOfWeek가 없거나 비어 있으면 매일, startDate가 없으면 오늘부터 반복
+ */
+public record TodoTemplateRequest(
+        @NotBlank(message = "Title is required")
+        String title,
+
+        List<DayOfWeek> daysOfWeek,
+
+        LocalDate startDate
+) {
+}
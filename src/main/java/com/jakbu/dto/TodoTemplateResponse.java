@@ -0,0 +1,20 @@
+package com.jakbu.dto;
+
+import com.jakbu.domain.TodoTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TodoTemplateResponse(
+        Long id,
+        String title,
+        List<DayOfWeek> daysOfWeek,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public static TodoTemplateResponse from(TodoTemplate template) {
+        return new TodoTemplateResponse(template.getId(), template.getTitle(), template.getDaysOfWeekList(),
+                template.getStartDate(), template.getEndDate());
+    }
+}
@@ -0,0 +1,18 @@
+package com.jakbu.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * 일괄 수정 항목 (title, done 중 null이 아닌 값만 반영)
+ */
+public record TodoUpdateItem(
+        @NotNull(message = "id is required")
+        Long id,
+
+        @Pattern(regexp = ".*\\S.*", message = "Title must not be blank")
+        String title,
+
+        Boolean done
+) {
+}
@@ -0,0 +1,34 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.AccountDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, Long> {
+
+    @Query("SELECT d.userId FROM AccountDeletion d WHERE d.completedAt IS NULL ORDER BY d.requestedAt")
+    List<Long> findPendingUserIds(Pageable pageable);
+
+    @Query("SELECT COUNT(d) FROM AccountDeletion d WHERE d.completedAt IS NULL")
+    long countPending();
+
+    /**
+     * since 이후 탈퇴를 요청한 사용자 (아직 만료되지 않은 엑세스 토큰을 거부하기 위함)
+     */
+    @Query("SELECT d.userId FROM AccountDeletion d WHERE d.requestedAt > :since")
+    List<Long> findUserIdsRequestedAfter(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AccountDeletion d SET d.deletedTodos = d.deletedTodos + :count WHERE d.userId = :userId")
+    void addDeletedTodos(@Param("userId") Long userId, @Param("count") long count);
+}
@@ -0,0 +1,98 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.ArchivedTodo;
+import com.jakbu.dto.DayCompletion;
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.dto.TodoResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long> {
+
+    // 별칭 t와 필드 이름이 Todo와 같으므로 TodoRepository의 상태 계산식을 그대로 사용
+    String TODO_RESPONSE = TodoRepository.TODO_RESPONSE;
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM ArchivedTodo t WHERE t.userId = :userId AND t.date = :date ORDER BY t.id")
+    List<TodoResponse> findResponsesByUserIdAndDate(@Param("userId") Long userId,
+                                                    @Param("date") LocalDate date,
+                                                    @Param("today") LocalDate today);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM ArchivedTodo t WHERE t.userId = :userId AND t.date BETWEEN :from AND :to " +
+            "ORDER BY t.date, t.id")
+    List<TodoResponse> findResponsesByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                           @Param("from") LocalDate from,
+                                                           @Param("to") LocalDate to,
+                                                           @Param("today") LocalDate today);
+
+    /**
+     * TodoRepository.findDayCompletions의 보관 테이블 버전 (통계 재구축용)
+     */
+    @Query("SELECT new com.jakbu.dto.DayCompletion(t.userId, t.date, COUNT(t), " +
+            "SUM(CASE WHEN t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date THEN 1 ELSE 0 END)) " +
+            "FROM ArchivedTodo t WHERE t.userId BETWEEN :fromUserId AND :toUserId AND t.date < :today " +
+            "GROUP BY t.userId, t.date ORDER BY t.userId, t.date")
+    List<DayCompletion> findDayCompletions(@Param("fromUserId") Long fromUserId,
+                                           @Param("toUserId") Long toUserId,
+                                           @Param("today") LocalDate today);
+
+    /**
+     * TodoRepository.findCompletedOnTimeDates의 보관 테이블 버전
+     */
+    @Query("SELECT DISTINCT t.date FROM ArchivedTodo t WHERE t.userId = :userId AND t.date <= :to " +
+            "AND t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date")
+    List<LocalDate> findCompletedOnTimeDates(@Param("userId") Long userId, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(t.templateId, t.date) FROM ArchivedTodo t " +
+            "WHERE t.userId = :userId AND t.date BETWEEN :from AND :to AND t.templateId IS NOT NULL")
+    List<TemplateOccurrence> findTemplateOccurrencesByUserId(@Param("userId") Long userId,
+                                                             @Param("from") LocalDate from,
+                                                             @Param("to") LocalDate to);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(t.templateId, t.date) FROM ArchivedTodo t " +
+            "WHERE t.userId BETWEEN :fromUserId AND :toUserId AND t.templateId IS NOT NULL")
+    List<TemplateOccurrence> findTemplateOccurrences(@Param("fromUserId") Long fromUserId,
+                                                     @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Query(value = "INSERT INTO todos_archive " +
+            "(id, user_id, title, date, status, completed_at, change_seq, template_id, archived_at) " +
+            "SELECT id, user_id, title, date, status, completed_at, change_seq, template_id, :now " +
+            "FROM todos WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTodos(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromTodos(@Param("ids") List<Long> ids);
+
+    /**
+     * todos의 행을 보관 테이블로 옮김 (복사 + 삭제를 한 트랜잭션으로)
+     * - 복사 시 읽은 행은 커밋까지 잠기므로 그 사이 바뀐 내용이 삭제로 유실되지 않음
+     */
+    @Transactional
+    default int moveFromTodos(List<Long> ids, LocalDateTime now) {
+        copyFromTodos(ids, now);
+        return deleteFromTodos(ids);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArchivedTodo t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 보관된 Todo를 최대 limit개 삭제 (탈퇴 처리용, 호출마다 별도 트랜잭션)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM todos_archive WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
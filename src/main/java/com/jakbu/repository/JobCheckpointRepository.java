@@ -0,0 +1,46 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    /**
+     * 새 회차 시작: 진행 위치를 처음으로 돌리고 이번 회차의 마지막 키를 기록 (행이 없으면 생성)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_checkpoints (name, run_key, last_position, target_position, finished, updated_at) " +
+            "VALUES (:name, :runKey, 0, :target, FALSE, :now) " +
+            "ON DUPLICATE KEY UPDATE run_key = :runKey, last_position = 0, target_position = :target, " +
+            "finished = FALSE, updated_at = :now", nativeQuery = true)
+    void start(@Param("name") String name,
+               @Param("runKey") String runKey,
+               @Param("target") long target,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 회차의 진행 위치를 기록
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobCheckpoint c SET c.lastPosition = :position, c.updatedAt = :now " +
+            "WHERE c.name = :name AND c.runKey = :runKey")
+    void record(@Param("name") String name,
+                @Param("runKey") String runKey,
+                @Param("position") long position,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobCheckpoint c SET c.finished = true, c.updatedAt = :now WHERE c.name = :name AND c.runKey = :runKey")
+    void finish(@Param("name") String name, @Param("runKey") String runKey, @Param("now") LocalDateTime now);
+}
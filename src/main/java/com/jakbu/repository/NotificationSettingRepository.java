@@ -1,11 +1,17 @@
 package com.jakbu.repository;
 
 import com.jakbu.domain.NotificationSetting;
+import com.jakbu.domain.enums.IntervalType;
+import com.jakbu.dto.PushRecipient;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +21,46 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
     
     List<NotificationSetting> findByEnabledTrue();
 
+    /**
+     * 알림 대상 (userId, fcmToken)을 userId 기준 키셋 페이지 단위로 조회
+     * - 해당 간격/슬롯으로 알림이 켜져 있고, FCM 토큰이 있으며, 해당 날짜에 미완료 Todo가 있는 사용자
+     * - 미완료 여부는 user_day_summary의 기본키 조회로 판단 (todos를 스캔하지 않음)
+     * - 아직 저장되지 않은 반복 템플릿 항목도 미완료로 봄 (dayOfWeek: date의 요일, 월요일 = 1)
+     * - 같은 슬롯의 사용자를 shardCount개로 나눠 shard에 해당하는 사용자만 (클러스터 인스턴스 간 분할)
+     *   슬롯이 userId % slotCount이므로 샤드는 몫(userId / slotCount)으로 나눔
+     *   (userId % shardCount로 나누면 슬롯과 샤드가 같은 나머지로 묶여 한 분의 대상이 일부 샤드에만 몰림)
+     * - afterUserId보다 큰 userId만 오름차순으로 반환하므로 다음 페이지는 마지막 userId를 넘겨 조회
+     */
+    @Query("SELECT new com.jakbu.dto.PushRecipient(u.id, u.fcmToken) " +
+            "FROM NotificationSetting s JOIN s.user u " +
+            "WHERE s.intervalType = :intervalType AND s.reminderSlot = :slot " +
+            "AND s.enabled = true AND u.fcmToken IS NOT NULL " +
+            "AND MOD(FLOOR(u.id / :slotCount), :shardCount) = :shard " +
+            "AND u.id > :afterUserId " +
+            "AND (EXISTS (SELECT 1 FROM UserDaySummary d WHERE d.userId = u.id AND d.date = :date AND d.total > d.done) " +
+            "     OR EXISTS (SELECT 1 FROM TodoTemplate tt WHERE tt.user.id = u.id AND " +
+            TodoTemplateRepository.PENDING_OCCURRENCE + ")) " +
+            "ORDER BY u.id")
+    List<PushRecipient> findPushRecipientsAfter(@Param("intervalType") IntervalType intervalType,
+                                                @Param("slot") int slot,
+                                                @Param("slotCount") int slotCount,
+                                                @Param("shard") int shard,
+                                                @Param("shardCount") int shardCount,
+                                                @Param("date") LocalDate date,
+                                                @Param("dayOfWeek") int dayOfWeek,
+                                                @Param("afterUserId") Long afterUserId,
+                                                Pageable pageable);
+
+    /**
+     * 슬롯이 없는 기존 설정에 사용자 ID 기반 슬롯을 채움
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationSetting s SET s.reminderSlot = MOD(s.user.id, :slotCount) " +
+            "WHERE s.intervalType = :intervalType AND s.reminderSlot IS NULL")
+    int backfillReminderSlots(@Param("intervalType") IntervalType intervalType, @Param("slotCount") int slotCount);
+
     @Modifying
     @Transactional
     void deleteByUserId(Long userId);
 }
-
@@ -0,0 +1,42 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.PushOutbox;
+import com.jakbu.domain.enums.PushOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    /**
+     * 발송할 차례가 된 메시지를 잠그고 ID를 반환
+     * - 다른 인스턴스가 잠근 행은 건너뛰므로 여러 인스턴스가 서로 다른 배치를 가져감
+     * - 점유 만료된 SENDING 행도 다시 가져감
+     */
+    @Query(value = "SELECT id FROM push_outbox " +
+            "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PushOutbox o SET o.status = :status, o.nextAttemptAt = :leaseUntil WHERE o.id IN :ids")
+    int markSending(@Param("ids") Collection<Long> ids,
+                    @Param("status") PushOutboxStatus status,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<PushOutbox> findByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM push_outbox WHERE status IN ('SENT', 'FAILED') AND created_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,45 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 자신이 가진 리스를 연장하거나 만료된 리스를 가져감
+     *
+     * @return 1이면 리스 획득
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLease l SET l.holder = :holder, l.expiresAt = :expiresAt " +
+            "WHERE l.name = :name AND (l.holder = :holder OR l.expiresAt <= :now)")
+    int renewOrTakeOver(@Param("name") String name,
+                        @Param("holder") String holder,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 처음 사용하는 리스 생성. 다른 인스턴스가 먼저 만들었다면 기본 키 중복으로 실패
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduler_leases (name, holder, expires_at) VALUES (:name, :holder, :expiresAt)",
+            nativeQuery = true)
+    int insertLease(@Param("name") String name,
+                    @Param("holder") String holder,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :now WHERE l.name = :name AND l.holder = :holder")
+    int release(@Param("name") String name, @Param("holder") String holder, @Param("now") LocalDateTime now);
+}
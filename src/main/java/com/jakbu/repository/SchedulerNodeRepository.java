@@ -0,0 +1,39 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerNode n SET n.heartbeatAt = :now WHERE n.nodeId = :nodeId")
+    int touch(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduler_nodes (node_id, heartbeat_at) VALUES (:nodeId, :now)", nativeQuery = true)
+    int insertNode(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT n.nodeId FROM SchedulerNode n WHERE n.heartbeatAt > :aliveAfter ORDER BY n.nodeId")
+    List<String> findLiveNodeIds(@Param("aliveAfter") LocalDateTime aliveAfter);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SchedulerNode n WHERE n.heartbeatAt < :before")
+    int deleteStaleNodes(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SchedulerNode n WHERE n.nodeId = :nodeId")
+    int deleteNode(@Param("nodeId") String nodeId);
+}
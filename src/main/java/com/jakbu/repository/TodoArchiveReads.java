@@ -0,0 +1,27 @@
+package com.jakbu.repository;
+
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.dto.TodoResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 보관 테이블(todos_archive)까지 포함하는 Todo 조회 (TodoRepository 조각)
+ * - 보관 기준일 이후 날짜는 todos만 읽고, 이전 날짜는 두 테이블을 합쳐 읽음
+ */
+public interface TodoArchiveReads {
+
+    List<TodoResponse> findResponsesByUserIdAndDate(Long userId, LocalDate date, LocalDate today);
+
+    /**
+     * 날짜, ID 순 스트림 (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     */
+    Stream<TodoResponse> streamByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to, LocalDate today);
+
+    /**
+     * 기간 내 저장된 반복 템플릿 항목 (순서 없음)
+     */
+    List<TemplateOccurrence> findTemplateOccurrencesByUserId(Long userId, LocalDate from, LocalDate to, LocalDate today);
+}
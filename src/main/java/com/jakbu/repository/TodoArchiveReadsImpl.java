@@ -0,0 +1,86 @@
+package com.jakbu.repository;
+
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.dto.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * TodoArchiveReads 구현
+ * - 보관 작업은 기준일(today - horizon-days) 이전 행만 옮기므로 그 이후 날짜는 todos에만 있음
+ * - 기준일 이전 날짜는 보관 도중일 수 있어 두 테이블을 합쳐 (날짜, ID) 순으로 정렬
+ *   (한 행은 한 트랜잭션에서 옮겨지므로 두 테이블에 동시에 보이지 않음)
+ */
+public class TodoArchiveReadsImpl implements TodoArchiveReads {
+
+    private static final Comparator<TodoResponse> DATE_THEN_ID =
+            Comparator.comparing(TodoResponse::date).thenComparing(TodoResponse::id);
+
+    private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final int horizonDays;
+
+    public TodoArchiveReadsImpl(@Lazy TodoRepository todoRepository,
+                                ArchivedTodoRepository archivedTodoRepository,
+                                @Value("${todo.archive.horizon-days:365}") int horizonDays) {
+        this.todoRepository = todoRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public List<TodoResponse> findResponsesByUserIdAndDate(Long userId, LocalDate date, LocalDate today) {
+        List<TodoResponse> recent = todoRepository.findRecentResponsesByUserIdAndDate(userId, date, today);
+        if (!date.isBefore(cutoff(today))) {
+            return recent;
+        }
+        List<TodoResponse> merged = new ArrayList<>(archivedTodoRepository.findResponsesByUserIdAndDate(userId, date, today));
+        merged.addAll(recent);
+        merged.sort(DATE_THEN_ID);
+        return merged;
+    }
+
+    @Override
+    public Stream<TodoResponse> streamByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to, LocalDate today) {
+        LocalDate cutoff = cutoff(today);
+        if (!from.isBefore(cutoff)) {
+            return todoRepository.streamRecentByUserIdAndDateBetween(userId, from, to, today);
+        }
+
+        // 기준일 이전 구간은 크기가 기간에 비례하므로 합쳐서 정렬하고, 이후 구간은 그대로 스트리밍
+        LocalDate oldTo = to.isBefore(cutoff) ? to : cutoff.minusDays(1);
+        List<TodoResponse> old = new ArrayList<>(archivedTodoRepository.findResponsesByUserIdAndDateBetween(userId, from, oldTo, today));
+        try (Stream<TodoResponse> recentOld = todoRepository.streamRecentByUserIdAndDateBetween(userId, from, oldTo, today)) {
+            recentOld.forEach(old::add);
+        }
+        old.sort(DATE_THEN_ID);
+        if (to.isBefore(cutoff)) {
+            return old.stream();
+        }
+        Stream<TodoResponse> recent = todoRepository.streamRecentByUserIdAndDateBetween(userId, cutoff, to, today);
+        return Stream.concat(old.stream(), recent).onClose(recent::close);
+    }
+
+    @Override
+    public List<TemplateOccurrence> findTemplateOccurrencesByUserId(Long userId, LocalDate from, LocalDate to, LocalDate today) {
+        List<TemplateOccurrence> recent = todoRepository.findRecentTemplateOccurrencesByUserId(userId, from, to);
+        LocalDate cutoff = cutoff(today);
+        if (!from.isBefore(cutoff)) {
+            return recent;
+        }
+        LocalDate oldTo = to.isBefore(cutoff) ? to : cutoff.minusDays(1);
+        List<TemplateOccurrence> merged = new ArrayList<>(archivedTodoRepository.findTemplateOccurrencesByUserId(userId, from, oldTo));
+        merged.addAll(recent);
+        return merged;
+    }
+
+    private LocalDate cutoff(LocalDate today) {
+        return today.minusDays(horizonDays);
+    }
+}
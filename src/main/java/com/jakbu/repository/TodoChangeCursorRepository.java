@@ -0,0 +1,43 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.TodoChangeCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TodoChangeCursorRepository extends JpaRepository<TodoChangeCursor, Long> {
+
+    /**
+     * 사용자 변경 번호를 1 올림 (행이 없으면 1로 생성), 트랜잭션이 끝날 때까지 행이 잠김
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO todo_change_cursors (user_id, seq, purged_seq) VALUES (:userId, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE seq = seq + 1", nativeQuery = true)
+    void advance(@Param("userId") Long userId);
+
+    @Query("SELECT c.seq FROM TodoChangeCursor c WHERE c.userId = :userId")
+    Optional<Long> findSeq(@Param("userId") Long userId);
+
+    /**
+     * 정리할 삭제 기록의 최대 변경 번호를 사용자별 purgedSeq로 남김
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE TodoChangeCursor c SET c.purgedSeq = " +
+            "(SELECT MAX(t.changeSeq) FROM TodoTombstone t WHERE t.userId = c.userId AND t.deletedAt < :before) " +
+            "WHERE EXISTS (SELECT 1 FROM TodoTombstone t WHERE t.userId = c.userId AND t.deletedAt < :before)")
+    int markPurgedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TodoChangeCursor c WHERE c.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -2,37 +2,247 @@ package com.jakbu.repository;
 
 import com.jakbu.domain.Todo;
 import com.jakbu.domain.enums.TodoStatus;
-import com.jakbu.domain.enums.TodoStatus;
+import com.jakbu.dto.DayCompletion;
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.dto.TodoResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoArchiveReads {
+
+    /**
+     * :today 기준으로 완료 상태인지 (Todo.getStatusOn과 같은 규칙)
+     * - 완료 시각이 있고, 날짜가 오늘 이후이거나 오늘 완료한 경우
+     * - 자정에 행을 바꾸지 않아도 날짜가 지난 완료는 TODO로 계산됨
+     */
+    String EFFECTIVE_DONE = "(t.completedAt IS NOT NULL AND (t.date >= :today OR CAST(t.completedAt AS LocalDate) >= :today))";
+
+    String EFFECTIVE_STATUS = "CASE WHEN " + EFFECTIVE_DONE + " THEN com.jakbu.domain.enums.TodoStatus.DONE " +
+            "ELSE com.jakbu.domain.enums.TodoStatus.TODO END";
+
+    String TODO_RESPONSE = "new com.jakbu.dto.TodoResponse(t.id, t.title, t.date, " + EFFECTIVE_STATUS + ", t.templateId)";
+
     @Query("SELECT t FROM Todo t WHERE t.user.id = :userId AND t.date = :date")
     List<Todo> findByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
-    
-    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.user.id = :userId AND t.date = :date AND t.status = :status")
-    boolean existsByUserIdAndDateAndStatus(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("status") TodoStatus status);
-    
+
+    /**
+     * 조회 전용: 엔티티(User 프록시, 변경 감지 스냅샷) 없이 응답 DTO로 바로 조회
+     * - todos만 읽음, 보관된 날짜까지 포함하려면 findResponsesByUserIdAndDate(TodoArchiveReads) 사용
+     */
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t WHERE t.user.id = :userId AND t.date = :date ORDER BY t.id")
+    List<TodoResponse> findRecentResponsesByUserIdAndDate(@Param("userId") Long userId,
+                                                          @Param("date") LocalDate date,
+                                                          @Param("today") LocalDate today);
+
+    /**
+     * 기간 내 Todo를 날짜, ID 순으로 스트리밍 조회 (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     * - fetch size Integer.MIN_VALUE는 MySQL 드라이버가 결과를 한 행씩 읽도록 하는 값
+     * - 엔티티가 아닌 DTO로 바로 만들어 영속성 컨텍스트에 쌓이지 않음
+     * - todos만 읽음, 보관된 날짜까지 포함하려면 streamByUserIdAndDateBetween(TodoArchiveReads) 사용
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t WHERE t.user.id = :userId AND t.date BETWEEN :from AND :to " +
+            "ORDER BY t.date, t.id")
+    Stream<TodoResponse> streamRecentByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to,
+                                                            @Param("today") LocalDate today);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<TodoResponse> findResponseByIdAndUserId(@Param("id") Long id,
+                                                     @Param("userId") Long userId,
+                                                     @Param("today") LocalDate today);
+
+    /**
+     * 사용자의 Todo를 ID 순으로 잠가 읽음 (일괄 수정용)
+     * - 같은 순서로 잠그므로 겹치는 일괄 수정끼리 교착되지 않고, 커밋까지 다른 수정이 끼어들지 못함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Todo t WHERE t.id IN :ids AND t.user.id = :userId ORDER BY t.id")
+    List<Todo> findAllOwnedForUpdate(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t WHERE t.templateId = :templateId AND t.date = :date")
+    Optional<TodoResponse> findResponseByTemplateIdAndDate(@Param("templateId") Long templateId,
+                                                           @Param("date") LocalDate date,
+                                                           @Param("today") LocalDate today);
+
+    /**
+     * 오늘 기준 상태를 뒤집음
+     * - status를 먼저 대입하고 completedAt은 자기 자신과 date만 참조하므로,
+     *   대입을 왼쪽부터 반영하는 MySQL과 표준 SQL에서 결과가 같음
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.status = CASE WHEN " + EFFECTIVE_DONE + " THEN com.jakbu.domain.enums.TodoStatus.TODO " +
+            "ELSE com.jakbu.domain.enums.TodoStatus.DONE END, " +
+            "t.completedAt = CASE WHEN " + EFFECTIVE_DONE + " THEN NULL ELSE :now END, " +
+            "t.changeSeq = :changeSeq " +
+            "WHERE t.id = :id AND t.user.id = :userId")
+    int toggleStatus(@Param("id") Long id,
+                     @Param("userId") Long userId,
+                     @Param("today") LocalDate today,
+                     @Param("now") LocalDateTime now,
+                     @Param("changeSeq") long changeSeq);
+
+    /**
+     * 오늘 기준 상태가 status와 다를 때만 변경 (completedAt은 DONE이면 now, TODO면 null)
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.status = :status, t.completedAt = :completedAt, t.changeSeq = :changeSeq " +
+            "WHERE t.id = :id AND t.user.id = :userId AND " + EFFECTIVE_STATUS + " <> :status")
+    int updateStatus(@Param("id") Long id,
+                     @Param("userId") Long userId,
+                     @Param("status") TodoStatus status,
+                     @Param("completedAt") LocalDateTime completedAt,
+                     @Param("today") LocalDate today,
+                     @Param("changeSeq") long changeSeq);
+
+    /**
+     * 변경 번호가 (since, upTo] 구간인 Todo (변경 조회용)
+     */
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "WHERE t.user.id = :userId AND t.changeSeq > :since AND t.changeSeq <= :upTo " +
+            "ORDER BY t.changeSeq, t.id")
+    List<TodoResponse> findResponsesChangedBetween(@Param("userId") Long userId,
+                                                   @Param("since") long since,
+                                                   @Param("upTo") long upTo,
+                                                   @Param("today") LocalDate today);
+
+    /**
+     * syncedOn에는 완료였지만 today에는 날짜가 지나 TODO가 된 Todo (행 변경 없이 바뀐 상태를 변경 조회에 포함)
+     */
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "WHERE t.user.id = :userId AND t.completedAt IS NOT NULL " +
+            "AND (t.date >= :syncedOn OR CAST(t.completedAt AS LocalDate) >= :syncedOn) " +
+            "AND t.date < :today AND CAST(t.completedAt AS LocalDate) < :today " +
+            "ORDER BY t.date, t.id")
+    List<TodoResponse> findResponsesExpiredBetween(@Param("userId") Long userId,
+                                                   @Param("syncedOn") LocalDate syncedOn,
+                                                   @Param("today") LocalDate today);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t WHERE t.user.id = :userId ORDER BY t.date, t.id")
+    List<TodoResponse> findResponsesByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :id AND t.user.id = :userId AND " + EFFECTIVE_STATUS + " = :status")
+    int deleteOwned(@Param("id") Long id,
+                    @Param("userId") Long userId,
+                    @Param("status") TodoStatus status,
+                    @Param("today") LocalDate today);
+
+    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.user.id = :userId AND t.date = :date AND " + EFFECTIVE_STATUS + " = :status")
+    boolean existsByUserIdAndDateAndStatusOn(@Param("userId") Long userId,
+                                             @Param("date") LocalDate date,
+                                             @Param("status") TodoStatus status,
+                                             @Param("today") LocalDate today);
+
+    /**
+     * 오늘 기준 상태로 판단
+     */
+    default boolean existsByUserIdAndDateAndStatus(Long userId, LocalDate date, TodoStatus status) {
+        return existsByUserIdAndDateAndStatusOn(userId, date, status, LocalDate.now());
+    }
+
     default boolean existsTodoToday(Long userId, LocalDate today) {
-        return existsByUserIdAndDateAndStatus(userId, today, TodoStatus.TODO);
+        return existsByUserIdAndDateAndStatusOn(userId, today, TodoStatus.TODO, today);
     }
 
+    /**
+     * 완료 시각 도입 전에 DONE이 된 행에 완료 시각을 채움
+     */
     @Modifying
-    @Query("UPDATE Todo t SET t.status = :resetStatus WHERE t.date < :targetDate AND t.status = :currentStatus")
-    int resetDoneBeforeDate(@Param("targetDate") LocalDate targetDate,
-                            @Param("currentStatus") TodoStatus currentStatus,
-                            @Param("resetStatus") TodoStatus resetStatus);
+    @Query("UPDATE Todo t SET t.completedAt = :now WHERE t.status = com.jakbu.domain.enums.TodoStatus.DONE AND t.completedAt IS NULL")
+    int backfillCompletedAt(@Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 ID 구간에서 today 이전 날짜별 (전체, 그날까지 완료한) Todo 수 (통계 재구축용)
+     */
+    @Query("SELECT new com.jakbu.dto.DayCompletion(t.user.id, t.date, COUNT(t), " +
+            "SUM(CASE WHEN t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.user.id BETWEEN :fromUserId AND :toUserId AND t.date < :today " +
+            "GROUP BY t.user.id, t.date ORDER BY t.user.id, t.date")
+    List<DayCompletion> findDayCompletions(@Param("fromUserId") Long fromUserId,
+                                           @Param("toUserId") Long toUserId,
+                                           @Param("today") LocalDate today);
+
+    /**
+     * 사용자 ID 구간에서 from ~ today 전날의 날짜별 (전체, 그날까지 완료한) Todo 수 (통계 검증용, 보관 기준일 이후만)
+     */
+    @Query("SELECT new com.jakbu.dto.DayCompletion(t.user.id, t.date, COUNT(t), " +
+            "SUM(CASE WHEN t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.user.id BETWEEN :fromUserId AND :toUserId AND t.date >= :from AND t.date < :today " +
+            "GROUP BY t.user.id, t.date ORDER BY t.user.id, t.date")
+    List<DayCompletion> findRecentDayCompletions(@Param("fromUserId") Long fromUserId,
+                                                 @Param("toUserId") Long toUserId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("today") LocalDate today);
+
+    /**
+     * Todo가 자기 날짜까지 완료돼 있는지 (Todo.isCompletedOnTime, 지난 날짜 변경을 통계에 반영하기 전에 확인)
+     */
+    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.id = :id AND t.user.id = :userId " +
+            "AND t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date")
+    boolean isCompletedOnTime(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * to까지 그날 완료한 Todo가 있는 날짜 (한 사용자의 연속 달성 재계산용)
+     */
+    @Query("SELECT DISTINCT t.date FROM Todo t WHERE t.user.id = :userId AND t.date <= :to " +
+            "AND t.completedAt IS NOT NULL AND CAST(t.completedAt AS LocalDate) <= t.date")
+    List<LocalDate> findCompletedOnTimeDates(@Param("userId") Long userId, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(t.templateId, t.date) FROM Todo t " +
+            "WHERE t.user.id = :userId AND t.date BETWEEN :from AND :to AND t.templateId IS NOT NULL")
+    List<TemplateOccurrence> findRecentTemplateOccurrencesByUserId(@Param("userId") Long userId,
+                                                                   @Param("from") LocalDate from,
+                                                                   @Param("to") LocalDate to);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(t.templateId, t.date) FROM Todo t " +
+            "WHERE t.user.id BETWEEN :fromUserId AND :toUserId AND t.templateId IS NOT NULL")
+    List<TemplateOccurrence> findTemplateOccurrences(@Param("fromUserId") Long fromUserId,
+                                                     @Param("toUserId") Long toUserId);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(t.templateId, t.date) FROM Todo t " +
+            "WHERE t.user.id BETWEEN :fromUserId AND :toUserId AND t.date BETWEEN :from AND :to AND t.templateId IS NOT NULL")
+    List<TemplateOccurrence> findTemplateOccurrencesBetween(@Param("fromUserId") Long fromUserId,
+                                                            @Param("toUserId") Long toUserId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    /**
+     * 보관 대상(date < cutoff) Todo ID를 날짜, ID 순으로 조회 (idx_todos_date의 오래된 날짜 범위만 읽음)
+     * - 옮긴 행은 todos에서 지워지므로 다음 호출은 남은 행의 처음부터 읽으면 됨
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.date < :cutoff ORDER BY t.date, t.id")
+    List<Long> findIdsDatedBefore(@Param("cutoff") LocalDate cutoff, Pageable pageable);
 
     @Modifying
     @Query("DELETE FROM Todo t WHERE t.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
-}
 
+    /**
+     * 사용자의 Todo를 최대 limit개 삭제 (탈퇴 처리용, 호출마다 별도 트랜잭션)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM todos WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
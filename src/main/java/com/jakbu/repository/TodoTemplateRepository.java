@@ -0,0 +1,63 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.TodoTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TodoTemplateRepository extends JpaRepository<TodoTemplate, Long> {
+
+    /**
+     * 템플릿 tt가 :date(요일 :dayOfWeek, 월요일 = 1)에 반복되고, 그 날짜 항목이 아직 저장되거나 건너뛰어지지 않았는지
+     * - 날짜별 목록 펼치기와 알림 대상 조회(NotificationSettingRepository)가 같은 조건을 사용
+     */
+    String PENDING_OCCURRENCE = "tt.startDate <= :date AND (tt.endDate IS NULL OR tt.endDate >= :date) " +
+            "AND SUBSTRING(tt.daysOfWeek, :dayOfWeek, 1) = '1' " +
+            "AND NOT EXISTS (SELECT 1 FROM Todo o WHERE o.templateId = tt.id AND o.date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM ArchivedTodo a WHERE a.templateId = tt.id AND a.date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM TodoTemplateSkip k WHERE k.templateId = tt.id AND k.date = :date)";
+
+    @Query("SELECT tt FROM TodoTemplate tt WHERE tt.user.id = :userId AND " + PENDING_OCCURRENCE + " ORDER BY tt.id")
+    List<TodoTemplate> findPendingOn(@Param("userId") Long userId,
+                                     @Param("date") LocalDate date,
+                                     @Param("dayOfWeek") int dayOfWeek);
+
+    /**
+     * today 이후에도 반복되는 템플릿
+     */
+    @Query("SELECT tt FROM TodoTemplate tt WHERE tt.user.id = :userId AND (tt.endDate IS NULL OR tt.endDate >= :today) " +
+            "ORDER BY tt.id")
+    List<TodoTemplate> findActiveByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    /**
+     * from ~ to 중 하루라도 반복되는 템플릿
+     */
+    @Query("SELECT tt FROM TodoTemplate tt WHERE tt.user.id = :userId AND tt.startDate <= :to " +
+            "AND (tt.endDate IS NULL OR tt.endDate >= :from) ORDER BY tt.id")
+    List<TodoTemplate> findOverlapping(@Param("userId") Long userId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    @Query("SELECT tt FROM TodoTemplate tt WHERE tt.user.id BETWEEN :fromUserId AND :toUserId ORDER BY tt.id")
+    List<TodoTemplate> findByUserIdBetween(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query("SELECT tt FROM TodoTemplate tt WHERE tt.id = :id AND tt.user.id = :userId")
+    Optional<TodoTemplate> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 사용자 템플릿 전체의 버전 (끝난 템플릿도 행을 남기므로 템플릿이 바뀔 때마다 커짐)
+     */
+    @Query("SELECT COALESCE(MAX(tt.version), 0) FROM TodoTemplate tt WHERE tt.user.id = :userId")
+    long findMaxVersion(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM TodoTemplate tt WHERE tt.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
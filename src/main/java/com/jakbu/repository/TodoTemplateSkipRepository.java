@@ -0,0 +1,50 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.TodoTemplateSkip;
+import com.jakbu.domain.TodoTemplateSkipId;
+import com.jakbu.dto.TemplateOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TodoTemplateSkipRepository extends JpaRepository<TodoTemplateSkip, TodoTemplateSkipId> {
+
+    /**
+     * 건너뛴 날짜를 기록 (이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO todo_template_skips (template_id, date, user_id) VALUES (:templateId, :date, :userId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("templateId") Long templateId, @Param("date") LocalDate date, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM TodoTemplateSkip k WHERE k.templateId = :templateId AND k.date = :date")
+    int deleteByTemplateIdAndDate(@Param("templateId") Long templateId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM TodoTemplateSkip k WHERE k.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(k.templateId, k.date) FROM TodoTemplateSkip k " +
+            "WHERE k.userId = :userId AND k.date BETWEEN :from AND :to")
+    List<TemplateOccurrence> findOccurrencesByUserId(@Param("userId") Long userId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(k.templateId, k.date) FROM TodoTemplateSkip k " +
+            "WHERE k.userId BETWEEN :fromUserId AND :toUserId")
+    List<TemplateOccurrence> findOccurrences(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query("SELECT new com.jakbu.dto.TemplateOccurrence(k.templateId, k.date) FROM TodoTemplateSkip k " +
+            "WHERE k.userId BETWEEN :fromUserId AND :toUserId AND k.date BETWEEN :from AND :to")
+    List<TemplateOccurrence> findOccurrencesBetween(@Param("fromUserId") Long fromUserId,
+                                                    @Param("toUserId") Long toUserId,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+}
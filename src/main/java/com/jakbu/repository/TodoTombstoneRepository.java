@@ -0,0 +1,32 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.TodoTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    @Query("SELECT t.todoId FROM TodoTombstone t " +
+            "WHERE t.userId = :userId AND t.changeSeq > :since AND t.changeSeq <= :upTo ORDER BY t.changeSeq")
+    List<Long> findTodoIdsChangedBetween(@Param("userId") Long userId,
+                                         @Param("since") long since,
+                                         @Param("upTo") long upTo);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TodoTombstone t WHERE t.deletedAt < :before")
+    int deleteBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TodoTombstone t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
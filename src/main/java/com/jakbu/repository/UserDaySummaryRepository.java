@@ -0,0 +1,142 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.UserDaySummary;
+import com.jakbu.domain.UserDaySummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDaySummaryRepository extends JpaRepository<UserDaySummary, UserDaySummaryId> {
+
+    /**
+     * 오늘 기준으로 완료인 Todo (TodoRepository.EFFECTIVE_DONE의 네이티브 SQL 버전)
+     */
+    String EFFECTIVE_DONE = "t.completed_at IS NOT NULL AND (t.date >= :today OR DATE(t.completed_at) >= :today)";
+
+    /**
+     * 사용자 ID 구간의 todos와 보관된 Todo(todos_archive)를 합친 파생 테이블 (별칭 t로 사용)
+     */
+    String RANGE_TODOS = "(SELECT user_id, date, completed_at FROM todos " +
+            "WHERE user_id BETWEEN :fromUserId AND :toUserId " +
+            "UNION ALL SELECT user_id, date, completed_at FROM todos_archive " +
+            "WHERE user_id BETWEEN :fromUserId AND :toUserId)";
+
+    /**
+     * 요약 행이 없으면 만들고, 있으면 개수를 증감하고 버전을 올림
+     * - 버전은 max(기존 + 1, stamp)이므로 행을 다시 만들어도 이전 값으로 돌아가지 않음
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_day_summary (user_id, date, total, done, version) " +
+            "VALUES (:userId, :date, :totalDelta, :doneDelta, :stamp) " +
+            "ON DUPLICATE KEY UPDATE total = total + :totalDelta, done = done + :doneDelta, " +
+            "version = GREATEST(version + 1, :stamp)", nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("date") LocalDate date,
+                    @Param("totalDelta") int totalDelta,
+                    @Param("doneDelta") int doneDelta,
+                    @Param("stamp") long stamp);
+
+    @Query("SELECT s.version FROM UserDaySummary s WHERE s.userId = :userId AND s.date = :date")
+    Optional<Long> findVersion(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    @Query("SELECT COUNT(s) > 0 FROM UserDaySummary s WHERE s.userId = :userId AND s.date = :date AND s.total > s.done")
+    boolean existsIncomplete(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    /**
+     * 사용자 ID 구간에서 완료 수가 남아 있는 이전 날짜의 키 (잠그지 않는 읽기)
+     * - 날짜가 지나 완료가 풀렸을 수 있는 행만 골라, 다시 계산할 때 이 행들만 잠그도록 함
+     */
+    @Query("SELECT new com.jakbu.domain.UserDaySummaryId(s.userId, s.date) FROM UserDaySummary s " +
+            "WHERE s.userId BETWEEN :fromUserId AND :toUserId AND s.date < :today AND s.done > 0")
+    List<UserDaySummaryId> findDoneKeysBefore(@Param("fromUserId") Long fromUserId,
+                                              @Param("toUserId") Long toUserId,
+                                              @Param("today") LocalDate today);
+
+    /**
+     * 그날 Todo 중 today 기준 완료 수 (FOR SHARE: 다시 계산하는 동안 그날 Todo 변경을 막아 요약 증감과 어긋나지 않게 함)
+     * - Todo 변경과 같은 순서(todos -> user_day_summary)로 잠금
+     */
+    @Query(value = "SELECT COUNT(*) FROM todos t WHERE t.user_id = :userId AND t.date = :date AND " +
+            EFFECTIVE_DONE + " FOR SHARE", nativeQuery = true)
+    long countEffectiveDoneForShare(@Param("userId") Long userId,
+                                    @Param("date") LocalDate date,
+                                    @Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE UserDaySummary s SET s.done = :done, s.version = s.version + 1 " +
+            "WHERE s.userId = :userId AND s.date = :date AND s.done <> :done")
+    int updateDone(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("done") int done);
+
+    /**
+     * 키마다 완료 수를 today 기준으로 다시 계산 (한 트랜잭션, 잠그는 행은 keys와 그날의 Todo뿐)
+     * - 0으로 지우지 않으므로 오늘 완료한 지난 날짜 Todo는 완료로 남음 (TodoRepository.EFFECTIVE_DONE)
+     * @return 값이 바뀐 행 수
+     */
+    @Transactional
+    default int recomputeDone(List<UserDaySummaryId> keys, LocalDate today) {
+        int updated = 0;
+        for (UserDaySummaryId key : keys) {
+            long done = countEffectiveDoneForShare(key.getUserId(), key.getDate(), today);
+            updated += updateDone(key.getUserId(), key.getDate(), (int) done);
+        }
+        return updated;
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserDaySummary s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자 ID 구간에서 todos(보관 포함) 집계와 요약이 다른 (사용자, 날짜) 수
+     */
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM (" +
+            "    SELECT t.user_id, t.date, COUNT(*) AS total, " +
+            "           SUM(CASE WHEN " + EFFECTIVE_DONE + " THEN 1 ELSE 0 END) AS done " +
+            "    FROM " + RANGE_TODOS + " t GROUP BY t.user_id, t.date) a " +
+            " LEFT JOIN user_day_summary s ON s.user_id = a.user_id AND s.date = a.date " +
+            " WHERE s.user_id IS NULL OR s.total <> a.total OR s.done <> a.done) " +
+            "+ (SELECT COUNT(*) FROM user_day_summary s " +
+            " WHERE s.user_id BETWEEN :fromUserId AND :toUserId AND s.total > 0 " +
+            " AND NOT EXISTS (SELECT 1 FROM todos t WHERE t.user_id = s.user_id AND t.date = s.date) " +
+            " AND NOT EXISTS (SELECT 1 FROM todos_archive t WHERE t.user_id = s.user_id AND t.date = s.date))",
+            nativeQuery = true)
+    long countMismatches(@Param("fromUserId") Long fromUserId,
+                         @Param("toUserId") Long toUserId,
+                         @Param("today") LocalDate today);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM user_day_summary WHERE user_id BETWEEN :fromUserId AND :toUserId", nativeQuery = true)
+    int deleteRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_day_summary (user_id, date, total, done, version) " +
+            "SELECT t.user_id, t.date, COUNT(*), SUM(CASE WHEN " + EFFECTIVE_DONE + " THEN 1 ELSE 0 END), :stamp " +
+            "FROM " + RANGE_TODOS + " t GROUP BY t.user_id, t.date",
+            nativeQuery = true)
+    int insertRangeFromTodos(@Param("fromUserId") Long fromUserId,
+                             @Param("toUserId") Long toUserId,
+                             @Param("today") LocalDate today,
+                             @Param("stamp") long stamp);
+
+    /**
+     * 사용자 ID 구간의 요약을 todos(보관 포함) 기준으로 다시 계산 (삭제 + 재집계를 한 트랜잭션으로)
+     */
+    @Transactional
+    default void rebuildRange(Long fromUserId, Long toUserId, LocalDate today, long stamp) {
+        deleteRange(fromUserId, toUserId);
+        insertRangeFromTodos(fromUserId, toUserId, today, stamp);
+    }
+}
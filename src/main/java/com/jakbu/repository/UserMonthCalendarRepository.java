@@ -0,0 +1,69 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.UserMonthCalendar;
+import com.jakbu.domain.UserMonthCalendarId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Repository
+public interface UserMonthCalendarRepository extends JpaRepository<UserMonthCalendar, UserMonthCalendarId> {
+
+    /**
+     * date의 비트(:bit)만 todos로 다시 계산 (행이 없으면 생성)
+     * - (user_id, date) 인덱스로 그날의 Todo만 읽음 (보관된 Todo는 todos_archive의 같은 인덱스로)
+     * - 아직 flush되지 않은 Todo 변경이 반영되도록 실행 전에 flush
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_month_calendar (user_id, month_start, has_todos, all_done, version) " +
+            "SELECT :userId, :monthStart, " +
+            "       CASE WHEN COUNT(*) > 0 THEN :bit ELSE 0 END, " +
+            "       CASE WHEN COUNT(*) > 0 AND COUNT(*) = COUNT(t.completed_at) THEN :bit ELSE 0 END, :stamp " +
+            "FROM (SELECT completed_at FROM todos WHERE user_id = :userId AND date = :date " +
+            "      UNION ALL SELECT completed_at FROM todos_archive WHERE user_id = :userId AND date = :date) t " +
+            "ON DUPLICATE KEY UPDATE has_todos = (has_todos & ~:bit) | VALUES(has_todos), " +
+            "all_done = (all_done & ~:bit) | VALUES(all_done), version = GREATEST(version + 1, :stamp)",
+            nativeQuery = true)
+    void refreshDay(@Param("userId") Long userId,
+                    @Param("date") LocalDate date,
+                    @Param("monthStart") LocalDate monthStart,
+                    @Param("bit") int bit,
+                    @Param("stamp") long stamp);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM user_month_calendar WHERE user_id BETWEEN :fromUserId AND :toUserId", nativeQuery = true)
+    int deleteRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_month_calendar (user_id, month_start, has_todos, all_done, version) " +
+            "SELECT d.user_id, d.month_start, SUM(d.bit), SUM(CASE WHEN d.all_done = 1 THEN d.bit ELSE 0 END), :stamp " +
+            "FROM (SELECT t.user_id, DATE_SUB(t.date, INTERVAL DAYOFMONTH(t.date) - 1 DAY) AS month_start, " +
+            "             1 << (DAYOFMONTH(t.date) - 1) AS bit, " +
+            "             CASE WHEN COUNT(*) = COUNT(t.completed_at) THEN 1 ELSE 0 END AS all_done " +
+            "      FROM " + UserDaySummaryRepository.RANGE_TODOS + " t GROUP BY t.user_id, t.date) d " +
+            "GROUP BY d.user_id, d.month_start", nativeQuery = true)
+    int insertRangeFromTodos(@Param("fromUserId") Long fromUserId,
+                             @Param("toUserId") Long toUserId,
+                             @Param("stamp") long stamp);
+
+    /**
+     * 사용자 ID 구간의 달력 비트를 todos(보관 포함) 기준으로 다시 계산 (삭제 + 재집계를 한 트랜잭션으로)
+     */
+    @Transactional
+    default void rebuildRange(Long fromUserId, Long toUserId, long stamp) {
+        deleteRange(fromUserId, toUserId);
+        insertRangeFromTodos(fromUserId, toUserId, stamp);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserMonthCalendar c WHERE c.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
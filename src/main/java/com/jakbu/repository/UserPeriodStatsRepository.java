@@ -0,0 +1,135 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.UserPeriodStats;
+import com.jakbu.domain.UserPeriodStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserPeriodStatsRepository extends JpaRepository<UserPeriodStats, UserPeriodStatsId> {
+
+    /**
+     * 사용자 ID 구간에서 date의 요약 개수를 해당 기간에 더함
+     * - 아직 date를 집계하지 않은 사용자(user_streaks.rolled_date < date)만 더하므로 다시 실행해도 두 번 더해지지 않음
+     * - 같은 트랜잭션에서 UserStreakRepository.rollOver보다 먼저 실행해야 함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_period_stats (user_id, period_type, period_start, total, done) " +
+            "SELECT s.user_id, :periodType, :periodStart, s.total, s.done FROM user_day_summary s " +
+            "LEFT JOIN user_streaks k ON k.user_id = s.user_id " +
+            "WHERE s.user_id BETWEEN :fromUserId AND :toUserId AND s.date = :date AND s.total > 0 " +
+            "AND (k.rolled_date IS NULL OR k.rolled_date < :date) " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total), done = done + VALUES(done)", nativeQuery = true)
+    int addDay(@Param("fromUserId") Long fromUserId,
+               @Param("toUserId") Long toUserId,
+               @Param("date") LocalDate date,
+               @Param("periodType") String periodType,
+               @Param("periodStart") LocalDate periodStart);
+
+    /**
+     * 사용자 ID 구간에서 :date에 저장되지도 건너뛰지도 않은 반복 템플릿 (별칭 tt)
+     * - TodoTemplateRepository.PENDING_OCCURRENCE의 네이티브 SQL 버전 (dayOfWeek: 월요일 = 1)
+     */
+    String PENDING_TEMPLATES = "tt.user_id BETWEEN :fromUserId AND :toUserId " +
+            "AND tt.start_date <= :date AND (tt.end_date IS NULL OR tt.end_date >= :date) " +
+            "AND SUBSTRING(tt.days_of_week, :dayOfWeek, 1) = '1' " +
+            "AND NOT EXISTS (SELECT 1 FROM todos o WHERE o.template_id = tt.id AND o.date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM todos_archive a WHERE a.template_id = tt.id AND a.date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM todo_template_skips s WHERE s.template_id = tt.id AND s.date = :date)";
+
+    /**
+     * 사용자 ID 구간에서 date에 저장되지 않은 반복 템플릿 항목을 미완료 Todo로 더함 (addDay와 같은 rolled_date 조건)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_period_stats (user_id, period_type, period_start, total, done) " +
+            "SELECT tt.user_id, :periodType, :periodStart, COUNT(*), 0 FROM todo_templates tt " +
+            "LEFT JOIN user_streaks k ON k.user_id = tt.user_id " +
+            "WHERE " + PENDING_TEMPLATES + " " +
+            "AND (k.rolled_date IS NULL OR k.rolled_date < :date) " +
+            "GROUP BY tt.user_id " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total)", nativeQuery = true)
+    int addPendingOccurrences(@Param("fromUserId") Long fromUserId,
+                              @Param("toUserId") Long toUserId,
+                              @Param("date") LocalDate date,
+                              @Param("dayOfWeek") int dayOfWeek,
+                              @Param("periodType") String periodType,
+                              @Param("periodStart") LocalDate periodStart);
+
+    /**
+     * 한 사용자의 기간 행이 없으면 만들고, 있으면 개수를 증감 (이미 집계한 지난 날짜의 변경 반영용)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_period_stats (user_id, period_type, period_start, total, done) " +
+            "VALUES (:userId, :periodType, :periodStart, :totalDelta, :doneDelta) " +
+            "ON DUPLICATE KEY UPDATE total = total + :totalDelta, done = done + :doneDelta", nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("periodType") String periodType,
+                    @Param("periodStart") LocalDate periodStart,
+                    @Param("totalDelta") int totalDelta,
+                    @Param("doneDelta") int doneDelta);
+
+    @Query("SELECT p FROM UserPeriodStats p WHERE p.userId BETWEEN :fromUserId AND :toUserId")
+    List<UserPeriodStats> findRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query("SELECT p FROM UserPeriodStats p WHERE p.userId = :userId " +
+            "AND ((p.periodType = com.jakbu.domain.enums.StatsPeriod.WEEK AND p.periodStart = :weekStart) " +
+            "OR (p.periodType = com.jakbu.domain.enums.StatsPeriod.MONTH AND p.periodStart = :monthStart))")
+    List<UserPeriodStats> findCurrent(@Param("userId") Long userId,
+                                      @Param("weekStart") LocalDate weekStart,
+                                      @Param("monthStart") LocalDate monthStart);
+
+    @Query("SELECT p FROM UserPeriodStats p WHERE p.userId BETWEEN :fromUserId AND :toUserId " +
+            "AND ((p.periodType = com.jakbu.domain.enums.StatsPeriod.WEEK AND p.periodStart = :weekStart) " +
+            "OR (p.periodType = com.jakbu.domain.enums.StatsPeriod.MONTH AND p.periodStart = :monthStart))")
+    List<UserPeriodStats> findRangeOfPeriods(@Param("fromUserId") Long fromUserId,
+                                             @Param("toUserId") Long toUserId,
+                                             @Param("weekStart") LocalDate weekStart,
+                                             @Param("monthStart") LocalDate monthStart);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserPeriodStats p WHERE p.userId BETWEEN :fromUserId AND :toUserId " +
+            "AND ((p.periodType = com.jakbu.domain.enums.StatsPeriod.WEEK AND p.periodStart = :weekStart) " +
+            "OR (p.periodType = com.jakbu.domain.enums.StatsPeriod.MONTH AND p.periodStart = :monthStart))")
+    int deleteRangeOfPeriods(@Param("fromUserId") Long fromUserId,
+                             @Param("toUserId") Long toUserId,
+                             @Param("weekStart") LocalDate weekStart,
+                             @Param("monthStart") LocalDate monthStart);
+
+    /**
+     * 사용자 ID 구간의 한 주/한 달 개수만 다시 계산한 값으로 교체
+     */
+    @Transactional
+    default void replaceRangeOfPeriods(Long fromUserId, Long toUserId, LocalDate weekStart, LocalDate monthStart,
+                                       List<UserPeriodStats> stats) {
+        deleteRangeOfPeriods(fromUserId, toUserId, weekStart, monthStart);
+        saveAll(stats);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserPeriodStats p WHERE p.userId BETWEEN :fromUserId AND :toUserId")
+    int deleteRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    /**
+     * 사용자 ID 구간의 기간별 개수를 다시 계산한 값으로 교체
+     */
+    @Transactional
+    default void replaceRange(Long fromUserId, Long toUserId, List<UserPeriodStats> stats) {
+        deleteRange(fromUserId, toUserId);
+        saveAll(stats);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserPeriodStats p WHERE p.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -2,13 +2,39 @@ package com.jakbu.repository;
 
 import com.jakbu.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAccountId(String accountId);
     Optional<User> findByRefreshToken(String refreshToken);
-}
 
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
+    boolean existsActiveById(@Param("id") Long id);
+
+    /**
+     * 탈퇴하지 않은 사용자의 참조 (기본 키 존재만 확인하고 사용자 행 전체를 읽지 않음)
+     * - todos.user_id에는 외래 키가 없으므로 없는 사용자의 Todo가 저장되지 않도록 INSERT 전에 확인
+     */
+    default User getActiveReference(Long id) {
+        if (!existsActiveById(id)) {
+            throw new RuntimeException("User not found");
+        }
+        return getReferenceById(id);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.fcmToken = null WHERE u.fcmToken IN :fcmTokens")
+    int clearFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
+}
@@ -0,0 +1,83 @@
+package com.jakbu.repository;
+
+import com.jakbu.domain.UserStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
+
+    /**
+     * 사용자 ID 구간에서 date의 요약으로 연속 달성 기록을 갱신하고 rolled_date를 date로 올림
+     * - 이미 date를 집계한 사용자는 그대로 둠
+     * - 대입 순서(longest -> current -> last_active_date -> rolled_date)는 모두 갱신 전 값을 참조하도록 맞춤
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_streaks (user_id, current_streak, longest_streak, last_active_date, rolled_date) " +
+            "SELECT s.user_id, CASE WHEN s.done > 0 THEN 1 ELSE 0 END, CASE WHEN s.done > 0 THEN 1 ELSE 0 END, " +
+            "       CASE WHEN s.done > 0 THEN s.date END, s.date " +
+            "FROM user_day_summary s WHERE s.user_id BETWEEN :fromUserId AND :toUserId AND s.date = :date AND s.total > 0 " +
+            "ON DUPLICATE KEY UPDATE " +
+            "longest_streak = CASE WHEN rolled_date >= :date OR VALUES(last_active_date) IS NULL THEN longest_streak " +
+            "    WHEN last_active_date = :previousDate THEN GREATEST(longest_streak, current_streak + 1) " +
+            "    ELSE GREATEST(longest_streak, 1) END, " +
+            "current_streak = CASE WHEN rolled_date >= :date OR VALUES(last_active_date) IS NULL THEN current_streak " +
+            "    WHEN last_active_date = :previousDate THEN current_streak + 1 ELSE 1 END, " +
+            "last_active_date = CASE WHEN rolled_date >= :date OR VALUES(last_active_date) IS NULL THEN last_active_date " +
+            "    ELSE :date END, " +
+            "rolled_date = GREATEST(rolled_date, :date)", nativeQuery = true)
+    int rollOver(@Param("fromUserId") Long fromUserId,
+                 @Param("toUserId") Long toUserId,
+                 @Param("date") LocalDate date,
+                 @Param("previousDate") LocalDate previousDate);
+
+    /**
+     * rollOver 다음에 실행: date에 저장되지 않은 반복 템플릿 항목만 있던 사용자도 rolled_date를 date로 올림
+     * - 다시 실행해도 addPendingOccurrences가 같은 날짜를 두 번 더하지 않게 함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_streaks (user_id, current_streak, longest_streak, last_active_date, rolled_date) " +
+            "SELECT DISTINCT tt.user_id, 0, 0, NULL, :date FROM todo_templates tt " +
+            "WHERE " + UserPeriodStatsRepository.PENDING_TEMPLATES + " " +
+            "ON DUPLICATE KEY UPDATE rolled_date = GREATEST(rolled_date, VALUES(rolled_date))", nativeQuery = true)
+    int markPendingOnlyRolled(@Param("fromUserId") Long fromUserId,
+                              @Param("toUserId") Long toUserId,
+                              @Param("date") LocalDate date,
+                              @Param("dayOfWeek") int dayOfWeek);
+
+    /**
+     * 자정 집계에 반영된 마지막 날짜 (집계 기록이 없으면 비어 있음)
+     */
+    @Query("SELECT k.rolledDate FROM UserStreak k WHERE k.userId = :userId")
+    Optional<LocalDate> findRolledDate(@Param("userId") Long userId);
+
+    @Query("SELECT k FROM UserStreak k WHERE k.userId BETWEEN :fromUserId AND :toUserId")
+    List<UserStreak> findRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStreak k WHERE k.userId BETWEEN :fromUserId AND :toUserId")
+    int deleteRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    /**
+     * 사용자 ID 구간의 연속 달성 기록을 다시 계산한 값으로 교체
+     */
+    @Transactional
+    default void replaceRange(Long fromUserId, Long toUserId, List<UserStreak> streaks) {
+        deleteRange(fromUserId, toUserId);
+        saveAll(streaks);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStreak k WHERE k.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
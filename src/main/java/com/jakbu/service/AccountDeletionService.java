@@ -0,0 +1,128 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.AccountDeletion;
+import com.jakbu.repository.AccountDeletionRepository;
+import com.jakbu.repository.ArchivedTodoRepository;
+import com.jakbu.repository.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 탈퇴 진행 관리
+ * - 요청 시에는 계정을 탈퇴 상태로 표시하고 진행 행(account_deletions)만 만듦
+ * - Todo는 백그라운드 작업(AccountDeletionWorker)이 batch-size씩 나눠 지우고 진행 행에 누적
+ * - 엑세스 토큰은 서명만 검증하므로, 만료 전 토큰을 거부할 수 있도록 최근 탈퇴 사용자 ID를 메모리에 유지
+ */
+@Service
+@Transactional
+public class AccountDeletionService {
+
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final int batchSize;
+    private final Duration accessTokenLifetime;
+    private final Set<Long> localRevokedUserIds = ConcurrentHashMap.newKeySet();
+    private volatile Set<Long> revokedUserIds = Set.of();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter deletedTodos;
+    private final Timer completionTimer;
+
+    public AccountDeletionService(AccountDeletionRepository accountDeletionRepository,
+                                  TodoRepository todoRepository,
+                                  ArchivedTodoRepository archivedTodoRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${account.deletion.batch-size:1000}") int batchSize,
+                                  @Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.todoRepository = todoRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.batchSize = batchSize;
+        this.accessTokenLifetime = Duration.ofMillis(accessTokenExpiration);
+        this.deletedTodos = meterRegistry.counter("account.deletion.todos");
+        this.completionTimer = meterRegistry.timer("account.deletion.duration");
+        meterRegistry.gauge("account.deletion.pending", pending);
+    }
+
+    /**
+     * 탈퇴 요청 기록 (이미 요청한 경우 기존 진행 상황 반환)
+     */
+    public AccountDeletion request(Long userId, LocalDateTime now) {
+        localRevokedUserIds.add(userId);
+        return accountDeletionRepository.findById(userId)
+                .orElseGet(() -> accountDeletionRepository.save(new AccountDeletion(userId, now)));
+    }
+
+    /**
+     * 탈퇴를 요청한 사용자인지 (요청을 받은 인스턴스는 즉시, 다른 인스턴스는 다음 갱신부터 반영)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isRevoked(Long userId) {
+        return revokedUserIds.contains(userId) || localRevokedUserIds.contains(userId);
+    }
+
+    /**
+     * 엑세스 토큰 유효 기간 안에 탈퇴를 요청한 사용자 ID와 처리 대기 수를 다시 읽음
+     * - 그보다 오래된 요청의 토큰은 이미 만료되었으므로 목록에서 빠짐
+     */
+    @Transactional(readOnly = true)
+    public void refreshRevoked() {
+        Set<Long> userIds = new HashSet<>(accountDeletionRepository.findUserIdsRequestedAfter(
+                LocalDateTime.now().minus(accessTokenLifetime)));
+        revokedUserIds = userIds;
+        localRevokedUserIds.retainAll(userIds);
+        pending.set(accountDeletionRepository.countPending());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingUserIds(int limit) {
+        return accountDeletionRepository.findPendingUserIds(PageRequest.of(0, limit));
+    }
+
+    /**
+     * 사용자의 Todo를 batch-size개까지 삭제 (todos를 모두 지운 뒤 보관 테이블을 지움)
+     * - 배치마다 별도 트랜잭션이라 todos 잠금은 한 배치를 지우는 동안만 유지됨
+     * - 배치마다 진행 행에 삭제 수를 누적하므로 중단되면 남은 행부터 이어서 처리
+     * @return 삭제한 Todo 수 (0이면 남은 Todo가 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgeTodoBatch(Long userId) {
+        int count = todoRepository.deleteBatchByUserId(userId, batchSize);
+        if (count == 0) {
+            count = archivedTodoRepository.deleteBatchByUserId(userId, batchSize);
+        }
+        return record(userId, count);
+    }
+
+    /**
+     * 사용자 행을 지운 트랜잭션 안에서 호출
+     */
+    public void complete(Long userId, LocalDateTime now) {
+        accountDeletionRepository.findById(userId).filter(deletion -> !deletion.isCompleted()).ifPresent(deletion -> {
+            deletion.complete(now);
+            completionTimer.record(Duration.between(deletion.getRequestedAt(), now));
+        });
+    }
+
+    private int record(Long userId, int count) {
+        if (count > 0) {
+            accountDeletionRepository.addDeletedTodos(userId, count);
+            deletedTodos.increment(count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class AccountDeletionWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDeletionWorker.class);
+    private static final String LEASE_NAME = "account-deletion";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+    private static final int USERS_PER_RUN = 10;
+
+    private final AccountDeletionService accountDeletionService;
+    private final AuthService authService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public AccountDeletionWorker(AccountDeletionService accountDeletionService,
+                                 AuthService authService,
+                                 SchedulerLeaseService schedulerLeaseService) {
+        this.accountDeletionService = accountDeletionService;
+        this.authService = authService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 최근 탈퇴한 사용자 목록을 갱신합니다. (모든 인스턴스에서 실행, 만료 전 엑세스 토큰 거부용)
+     */
+    @Scheduled(fixedDelayString = "${account.deletion.poll-interval-ms:5000}")
+    public void refreshRevokedUsers() {
+        accountDeletionService.refreshRevoked();
+    }
+
+    /**
+     * 탈퇴를 요청한 계정의 Todo를 나눠 지우고 사용자 행을 삭제합니다.
+     * 중단되면 다음 주기에 남은 행부터 이어서 처리합니다.
+     * Todo가 많은 계정은 리스 시간보다 오래 걸릴 수 있으므로 배치마다 리스를 연장하고, 연장하지 못하면 멈춥니다.
+     */
+    @Scheduled(fixedDelayString = "${account.deletion.poll-interval-ms:5000}")
+    public void purgeDeletedAccounts() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            for (Long userId : accountDeletionService.findPendingUserIds(USERS_PER_RUN)) {
+                if (!purgeAccount(userId)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * @return 리스를 잃어 중간에 멈췄으면 false
+     */
+    private boolean purgeAccount(Long userId) {
+        long startedAt = System.nanoTime();
+        long deleted = 0;
+        int count;
+        while ((count = accountDeletionService.purgeTodoBatch(userId)) > 0) {
+            deleted += count;
+            if (!schedulerLeaseService.tryAcquire(LEASE_NAME, LEASE_TIME)) {
+                logger.warn("Lost {} lease while deleting account {} after {} todos", LEASE_NAME, userId, deleted);
+                return false;
+            }
+        }
+        authService.completeAccountDeletion(userId);
+        logger.info("Deleted account {} ({} todos) in {} ms",
+                userId, deleted, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jakbu.service;
 
 import com.jakbu.domain.User;
+import com.jakbu.dto.AccountDeletionResponse;
 import com.jakbu.repository.NotificationSettingRepository;
 import com.jakbu.repository.TodoRepository;
 import com.jakbu.util.JwtUtil;
@@ -13,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @Transactional
 public class AuthService {
@@ -22,17 +25,41 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final TodoRepository todoRepository;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final UserDaySummaryService userDaySummaryService;
+    private final TodoDayCache todoDayCache;
+    private final TodoChangeService todoChangeService;
+    private final TodoTemplateService todoTemplateService;
+    private final TodoStatsService todoStatsService;
+    private final TodoCalendarService todoCalendarService;
+    private final TodoArchiveService todoArchiveService;
+    private final AccountDeletionService accountDeletionService;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        JwtUtil jwtUtil,
                        TodoRepository todoRepository,
-                       NotificationSettingRepository notificationSettingRepository) {
+                       NotificationSettingRepository notificationSettingRepository,
+                       UserDaySummaryService userDaySummaryService,
+                       TodoDayCache todoDayCache,
+                       TodoChangeService todoChangeService,
+                       TodoTemplateService todoTemplateService,
+                       TodoStatsService todoStatsService,
+                       TodoCalendarService todoCalendarService,
+                       TodoArchiveService todoArchiveService,
+                       AccountDeletionService accountDeletionService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.todoRepository = todoRepository;
         this.notificationSettingRepository = notificationSettingRepository;
+        this.userDaySummaryService = userDaySummaryService;
+        this.todoDayCache = todoDayCache;
+        this.todoChangeService = todoChangeService;
+        this.todoTemplateService = todoTemplateService;
+        this.todoStatsService = todoStatsService;
+        this.todoCalendarService = todoCalendarService;
+        this.todoArchiveService = todoArchiveService;
+        this.accountDeletionService = accountDeletionService;
     }
 
     public AuthResponse signup(AuthRequest request) {
@@ -59,7 +86,7 @@ public class AuthService {
         User user = userRepository.findByAccountId(request.accountId())
                 .orElseThrow(() -> new RuntimeException("Invalid account ID or password"));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (user.isDeleted() || !passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new RuntimeException("Invalid account ID or password");
         }
 
@@ -110,15 +137,38 @@ public class AuthService {
     }
 
     /**
-     * 회원 탈퇴: 연관된 Todo 및 알림 설정 제거 후 사용자 삭제
+     * 회원 탈퇴 요청: 계정을 탈퇴 상태로 표시하고 토큰을 무효화한 뒤 바로 반환
+     * - 알림 설정은 바로 지워 탈퇴 처리 중에 푸시가 가지 않게 함
+     * - Todo와 사용자 행은 AccountDeletionWorker가 나눠서 삭제 (completeAccountDeletion)
      */
-    public void deleteAccount(Long userId) {
+    public AccountDeletionResponse deleteAccount(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        LocalDateTime now = LocalDateTime.now();
+        if (!user.isDeleted()) {
+            user.markDeleted(now);
+            notificationSettingRepository.deleteByUserId(userId);
+        }
+        return AccountDeletionResponse.of(accountDeletionService.request(userId, now));
+    }
+
+    /**
+     * 회원 탈퇴 마무리: 남은 연관 데이터 제거 후 사용자 삭제
+     * - Todo 대부분은 이미 AccountDeletionService.purgeTodoBatch로 나눠서 지웠으므로 여기서는 남은 행만 지움
+     */
+    public void completeAccountDeletion(Long userId) {
         todoRepository.deleteByUserId(userId);
+        todoArchiveService.deleteByUserId(userId);
+        todoTemplateService.deleteByUserId(userId);
+        todoChangeService.deleteByUserId(userId);
+        userDaySummaryService.deleteByUserId(userId);
+        todoStatsService.deleteByUserId(userId);
+        todoCalendarService.deleteByUserId(userId);
+        todoDayCache.evictUser(userId);
         notificationSettingRepository.deleteByUserId(userId);
-        userRepository.delete(user);
+        userRepository.deleteById(userId);
+        accountDeletionService.complete(userId, LocalDateTime.now());
     }
 }
 
@@ -0,0 +1,101 @@
+package com.jakbu.service;
+
+import com.jakbu.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * scheduler_nodes 테이블로 살아 있는 인스턴스 목록을 관리하고 샤드를 나눔
+ * - 인스턴스마다 주기적으로 하트비트를 남기며, TTL 안에 하트비트가 있는 인스턴스만 살아 있는 것으로 봄
+ * - 샤드 s는 노드 ID 순으로 정렬한 살아 있는 인스턴스 중 (s % 인스턴스 수)번째가 맡음
+ * - 인스턴스가 들어오거나 나가면 다음 계산부터 자동으로 재분배됨
+ * - 하트비트는 인스턴스별 작업이므로 리스 없이 모든 인스턴스에서 실행
+ */
+@Service
+public class ClusterMembershipService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMembershipService.class);
+
+    private final SchedulerNodeRepository schedulerNodeRepository;
+    private final String nodeId;
+    private final Duration nodeTtl;
+    private volatile int lastClusterSize;
+
+    public ClusterMembershipService(SchedulerNodeRepository schedulerNodeRepository,
+                                    SchedulerLeaseService schedulerLeaseService,
+                                    @Value("${scheduler.membership.node-ttl-seconds:30}") long nodeTtlSeconds) {
+        this.schedulerNodeRepository = schedulerNodeRepository;
+        this.nodeId = schedulerLeaseService.getHolderId();
+        this.nodeTtl = Duration.ofSeconds(nodeTtlSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void join() {
+        heartbeat();
+        logger.info("Joined scheduler cluster as {}", nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.membership.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        if (schedulerNodeRepository.touch(nodeId, now) == 0) {
+            try {
+                schedulerNodeRepository.insertNode(nodeId, now);
+            } catch (DataIntegrityViolationException e) {
+                schedulerNodeRepository.touch(nodeId, now);
+            }
+        }
+        // 오래전에 사라진 인스턴스 정리
+        schedulerNodeRepository.deleteStaleNodes(now.minus(nodeTtl.multipliedBy(10)));
+    }
+
+    @PreDestroy
+    public void leave() {
+        // 다른 인스턴스가 TTL을 기다리지 않고 바로 샤드를 넘겨받도록 함
+        schedulerNodeRepository.deleteNode(nodeId);
+    }
+
+    /**
+     * 이 인스턴스가 맡은 샤드 번호 목록
+     */
+    public List<Integer> ownedShards(int shardCount) {
+        List<String> liveNodeIds = schedulerNodeRepository.findLiveNodeIds(LocalDateTime.now().minus(nodeTtl));
+        int index = liveNodeIds.indexOf(nodeId);
+        if (index < 0) {
+            // 아직 등록되지 않았거나 하트비트가 늦은 경우: 자신을 포함해 다시 계산
+            liveNodeIds = new ArrayList<>(liveNodeIds);
+            liveNodeIds.add(nodeId);
+            liveNodeIds.sort(null);
+            index = liveNodeIds.indexOf(nodeId);
+        }
+
+        int clusterSize = liveNodeIds.size();
+        if (clusterSize != lastClusterSize) {
+            logger.info("Scheduler cluster size changed: {} -> {}", lastClusterSize, clusterSize);
+            lastClusterSize = clusterSize;
+        }
+
+        int position = index;
+        return IntStream.range(0, shardCount)
+                .filter(shard -> shard % clusterSize == position)
+                .boxed()
+                .toList();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
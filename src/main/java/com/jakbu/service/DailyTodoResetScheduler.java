@@ -1,26 +1,58 @@
 package com.jakbu.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 @Component
 public class DailyTodoResetScheduler {
 
+    private static final Logger logger = LoggerFactory.getLogger(DailyTodoResetScheduler.class);
+    private static final String LEASE_NAME = "daily-todo-reset";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(30);
+
     private final TodoService todoService;
+    private final SchedulerLeaseService schedulerLeaseService;
 
-    public DailyTodoResetScheduler(TodoService todoService) {
+    public DailyTodoResetScheduler(TodoService todoService, SchedulerLeaseService schedulerLeaseService) {
         this.todoService = todoService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 시작 시 완료 시각 없이 DONE으로 남아 있는 기존 Todo에 완료 시각을 채우고,
+     * 시작했지만 끝나지 않은 자정 초기화가 있으면 남은 구간부터 이어서 처리합니다.
+     * 요약 재구축보다 먼저 실행되어야 완료 수가 맞게 집계됩니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int backfilled = todoService.backfillCompletedAt();
+            if (backfilled > 0) {
+                logger.info("Backfilled completed_at for {} todos", backfilled);
+            }
+            todoService.resumeDoneStatusReset(LocalDate.now());
+        });
     }
 
     /**
-     * 매일 자정에 이전 날짜의 DONE 상태를 TODO로 초기화합니다.
+     * 매일 자정에 어제 요약을 통계에 반영하고, 날짜별 요약의 완료 수를 사용자 ID 구간 단위로 초기화합니다.
+     * Todo 행은 바꾸지 않으며, 지난 날짜의 완료는 조회 시점에 TODO로 계산됩니다.
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void resetDoneStatusAtMidnight() {
-        LocalDate today = LocalDate.now();
-        todoService.resetDoneStatusBefore(today);
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            LocalDate today = LocalDate.now();
+            todoService.resetDoneStatusBefore(today);
+        });
     }
 }
-
@@ -0,0 +1,101 @@
+package com.jakbu.service;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.jakbu.domain.enums.PushFailureType;
+import com.jakbu.dto.PushSendResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "notification.gateway", havingValue = "fcm", matchIfMissing = true)
+public class FcmPushGateway implements PushGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(FcmPushGateway.class);
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FcmPushGateway(FirebaseMessaging firebaseMessaging) {
+        this.firebaseMessaging = firebaseMessaging;
+    }
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> fcmTokens, String title, String body) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(fcmTokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .build();
+
+        List<PushSendResult> results = new ArrayList<>(fcmTokens.size());
+        try {
+            // 응답 순서는 요청한 토큰 순서와 동일
+            BatchResponse batchResponse = firebaseMessaging.sendEachForMulticast(message);
+            List<SendResponse> responses = batchResponse.getResponses();
+            for (int i = 0; i < fcmTokens.size(); i++) {
+                SendResponse response = responses.get(i);
+                if (response.isSuccessful()) {
+                    results.add(PushSendResult.succeeded(fcmTokens.get(i)));
+                } else {
+                    FirebaseMessagingException e = response.getException();
+                    results.add(PushSendResult.failed(fcmTokens.get(i), errorCodeOf(e), classifyTokenFailure(e)));
+                }
+            }
+        } catch (FirebaseMessagingException e) {
+            // 요청 자체가 실패한 경우 토큰 문제가 아니므로 청크의 모든 토큰을 재시도 가능 여부로만 보고
+            logger.warn("Failed to send multicast push notification to {} tokens: {}", fcmTokens.size(), e.getMessage());
+            String errorCode = errorCodeOf(e);
+            PushFailureType failureType = isRetryable(e) ? PushFailureType.RETRYABLE : PushFailureType.PERMANENT;
+            for (String token : fcmTokens) {
+                results.add(PushSendResult.failed(token, errorCode, failureType));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 토큰 단위 발송 실패 분류
+     * - UNREGISTERED / INVALID_ARGUMENT / SENDER_ID_MISMATCH: 토큰이 만료되었거나 잘못됨
+     */
+    private PushFailureType classifyTokenFailure(FirebaseMessagingException e) {
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.UNREGISTERED
+                || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+                || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH) {
+            return PushFailureType.INVALID_TOKEN;
+        }
+        return isRetryable(e) ? PushFailureType.RETRYABLE : PushFailureType.PERMANENT;
+    }
+
+    private boolean isRetryable(FirebaseMessagingException e) {
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        if (errorCode != null) {
+            return errorCode == MessagingErrorCode.UNAVAILABLE
+                    || errorCode == MessagingErrorCode.INTERNAL
+                    || errorCode == MessagingErrorCode.QUOTA_EXCEEDED;
+        }
+        ErrorCode platformErrorCode = e.getErrorCode();
+        return platformErrorCode == ErrorCode.UNAVAILABLE
+                || platformErrorCode == ErrorCode.INTERNAL
+                || platformErrorCode == ErrorCode.DEADLINE_EXCEEDED
+                || platformErrorCode == ErrorCode.RESOURCE_EXHAUSTED;
+    }
+
+    private String errorCodeOf(FirebaseMessagingException e) {
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        return errorCode != null ? errorCode.name() : e.getErrorCode().name();
+    }
+}
@@ -0,0 +1,18 @@
+package com.jakbu.service;
+
+import com.jakbu.dto.TodoCacheInvalidation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스 간 전달 없이 로컬 캐시만 무효화
+ * - 다른 인스턴스의 캐시는 TTL(todo.cache.ttl-seconds)이 지나야 갱신됨
+ */
+@Component
+@ConditionalOnProperty(name = "todo.cache.invalidation-channel", havingValue = "local", matchIfMissing = true)
+public class LocalTodoCacheInvalidationChannel implements TodoCacheInvalidationChannel {
+
+    @Override
+    public void publish(TodoCacheInvalidation invalidation) {
+    }
+}
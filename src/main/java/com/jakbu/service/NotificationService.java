@@ -1,37 +1,50 @@
 package com.jakbu.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import com.jakbu.domain.NotificationSetting;
 import com.jakbu.domain.User;
 import com.jakbu.domain.enums.IntervalType;
 import com.jakbu.dto.FcmTokenRequest;
 import com.jakbu.dto.NotificationSettingRequest;
 import com.jakbu.dto.NotificationSettingResponse;
+import com.jakbu.dto.PushSendResult;
 import com.jakbu.repository.NotificationSettingRepository;
 import com.jakbu.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Transactional
 public class NotificationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    // FCM 멀티캐스트 1회 요청당 최대 토큰 수
+    private static final int MAX_MULTICAST_SIZE = 500;
+    // 무효 토큰 정리 UPDATE 1회당 최대 토큰 수
+    private static final int TOKEN_CLEANUP_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final NotificationSettingRepository notificationSettingRepository;
-    private final FirebaseMessaging firebaseMessaging;
+    private final PushGateway pushGateway;
+    private final PushDispatcher pushDispatcher;
 
     public NotificationService(UserRepository userRepository, 
                               NotificationSettingRepository notificationSettingRepository,
-                              FirebaseMessaging firebaseMessaging) {
+                              PushGateway pushGateway,
+                              PushDispatcher pushDispatcher) {
         this.userRepository = userRepository;
         this.notificationSettingRepository = notificationSettingRepository;
-        this.firebaseMessaging = firebaseMessaging;
+        this.pushGateway = pushGateway;
+        this.pushDispatcher = pushDispatcher;
     }
 
     public void saveFcmToken(Long userId, FcmTokenRequest request) {
@@ -68,24 +81,46 @@ public class NotificationService {
         return new NotificationSettingResponse(setting.getId(), setting.getIntervalType(), setting.getEnabled());
     }
 
-    public void sendPushNotification(String fcmToken, String title, String body) {
-        if (fcmToken == null || fcmToken.isEmpty()) {
-            return;
+    /**
+     * 동일한 알림을 500개 단위로 나눠 푸시 발송 실행기에 넘기고 즉시 반환
+     * - 실제 발송은 PushDispatcher의 스레드에서 속도 제한을 지키며 진행
+     *
+     * @return 청크별 발송 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CompletableFuture<List<PushSendResult>>> dispatchPushNotifications(List<String> fcmTokens,
+                                                                                 String title,
+                                                                                 String body) {
+        List<String> validTokens = fcmTokens.stream()
+                .filter(token -> token != null && !token.isEmpty())
+                .toList();
+
+        List<CompletableFuture<List<PushSendResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < validTokens.size(); from += MAX_MULTICAST_SIZE) {
+            int to = Math.min(from + MAX_MULTICAST_SIZE, validTokens.size());
+            List<String> chunk = validTokens.subList(from, to);
+            futures.add(pushDispatcher.submit(chunk.size(), () -> pushGateway.sendMulticast(chunk, title, body)));
         }
+        return futures;
+    }
 
-        try {
-            Message message = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                    .build();
-
-            firebaseMessaging.send(message);
-        } catch (FirebaseMessagingException e) {
-            throw new RuntimeException("Failed to send push notification: " + e.getMessage());
+    /**
+     * 발송 결과 중 무효 토큰을 사용자 정보에서 일괄 제거
+     *
+     * @return FCM 토큰이 제거된 사용자 수
+     */
+    public int removeInvalidTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return 0;
         }
+
+        List<String> tokens = List.copyOf(fcmTokens);
+        int cleared = 0;
+        for (int from = 0; from < tokens.size(); from += TOKEN_CLEANUP_BATCH_SIZE) {
+            int to = Math.min(from + TOKEN_CLEANUP_BATCH_SIZE, tokens.size());
+            cleared += userRepository.clearFcmTokens(tokens.subList(from, to));
+        }
+        logger.info("Removed {} invalid FCM tokens", cleared);
+        return cleared;
     }
 }
-
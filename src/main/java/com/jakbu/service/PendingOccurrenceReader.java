@@ -0,0 +1,60 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.TodoTemplate;
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTemplateRepository;
+import com.jakbu.repository.TodoTemplateSkipRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 아직 저장되지 않은 반복 템플릿 항목(조회 시 펼쳐 보여주는 TODO 항목)을 사용자/기간 단위로 계산
+ * - 기간과 겹치는 템플릿, 건너뛴 날짜, 저장된 항목(보관 포함)을 한 번씩 읽고 날짜별로 펼침
+ * - TodoTemplateRepository.PENDING_OCCURRENCE와 같은 조건 (템플릿이 없으면 템플릿 조회 한 번으로 끝남)
+ */
+@Component
+public class PendingOccurrenceReader {
+
+    private final TodoTemplateRepository todoTemplateRepository;
+    private final TodoTemplateSkipRepository todoTemplateSkipRepository;
+    private final TodoRepository todoRepository;
+
+    public PendingOccurrenceReader(TodoTemplateRepository todoTemplateRepository,
+                                   TodoTemplateSkipRepository todoTemplateSkipRepository,
+                                   TodoRepository todoRepository) {
+        this.todoTemplateRepository = todoTemplateRepository;
+        this.todoTemplateSkipRepository = todoTemplateSkipRepository;
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * from ~ to의 날짜별 미저장 항목 수 (항목이 없는 날짜는 빠짐)
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> countByDate(Long userId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        List<TodoTemplate> templates = todoTemplateRepository.findOverlapping(userId, from, to);
+        if (templates.isEmpty()) {
+            return counts;
+        }
+
+        Set<TemplateOccurrence> taken = new HashSet<>(todoTemplateSkipRepository.findOccurrencesByUserId(userId, from, to));
+        taken.addAll(todoRepository.findTemplateOccurrencesByUserId(userId, from, to, LocalDate.now()));
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (TodoTemplate template : templates) {
+                if (template.occursOn(date) && !taken.contains(new TemplateOccurrence(template.getId(), date))) {
+                    counts.merge(date, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,139 @@
+package com.jakbu.service;
+
+import com.jakbu.util.TokenBucketRateLimiter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 푸시 발송 전용 실행기
+ * - 동시 발송 수(concurrency)와 대기열 크기(queue-capacity)를 제한
+ * - 토큰 버킷으로 초당 FCM 발송 건수를 제한
+ * - 대기열이 가득 차면 정책에 따라 호출자를 대기시키거나(BLOCK) 작업을 버림(SHED)
+ */
+@Component
+public class PushDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushDispatcher.class);
+
+    public enum OverflowPolicy {
+        BLOCK, SHED
+    }
+
+    private final ExecutorService executor;
+    private final Semaphore admission;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong shedCount = new AtomicLong();
+
+    public PushDispatcher(@Value("${notification.dispatch.concurrency:8}") int concurrency,
+                          @Value("${notification.dispatch.queue-capacity:200}") int queueCapacity,
+                          @Value("${notification.dispatch.rate-per-second:500}") int ratePerSecond,
+                          @Value("${notification.dispatch.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                          @Value("${notification.dispatch.virtual-threads:true}") boolean virtualThreads) {
+        this.executor = Executors.newFixedThreadPool(concurrency, createThreadFactory(virtualThreads));
+        // 실행 중 + 대기 중인 작업 수의 합을 제한
+        this.admission = new Semaphore(concurrency + queueCapacity);
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * 발송 작업을 대기열에 넣고 즉시 반환
+     *
+     * @param sendCount 작업이 FCM으로 보내는 메시지 수 (속도 제한 단위)
+     * @return 작업 결과. SHED 정책으로 버려진 경우 RejectedExecutionException으로 실패
+     */
+    public <T> CompletableFuture<T> submit(int sendCount, Supplier<T> task) {
+        if (!admit()) {
+            long shed = shedCount.incrementAndGet();
+            logger.warn("Push dispatch queue is full, dropped a batch of {} messages (total dropped batches: {})",
+                    sendCount, shed);
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Push dispatch queue is full"));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    rateLimiter.acquire(sendCount);
+                    return task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Push dispatch interrupted", e);
+                } finally {
+                    admission.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    public long getShedCount() {
+        return shedCount.get();
+    }
+
+    public int getAvailableSlots() {
+        return admission.availablePermits();
+    }
+
+    private boolean admit() {
+        if (overflowPolicy == OverflowPolicy.SHED) {
+            return admission.tryAcquire();
+        }
+        try {
+            admission.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Push dispatcher did not finish pending batches within 30 seconds");
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * JDK 21 이상이면 가상 스레드, 아니면 플랫폼 스레드를 생성하는 팩토리
+     */
+    private static ThreadFactory createThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class)
+                        .invoke(builder, "push-dispatch-", 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                logger.info("Virtual threads are not available on this JDK, using platform threads for push dispatch");
+            }
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "push-dispatch-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
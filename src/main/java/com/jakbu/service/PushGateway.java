@@ -0,0 +1,19 @@
+package com.jakbu.service;
+
+import com.jakbu.dto.PushSendResult;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 수단
+ * - FcmPushGateway: Firebase Cloud Messaging (기본값)
+ * - StubPushGateway: 지연/오류/토큰 만료를 흉내 내는 프로세스 내 스텁 (부하 테스트용)
+ * notification.gateway 설정(fcm / stub)으로 선택
+ */
+public interface PushGateway {
+
+    /**
+     * 동일한 알림을 여러 토큰(최대 500개)에 발송하고 요청한 토큰 순서대로 결과를 반환
+     */
+    List<PushSendResult> sendMulticast(List<String> fcmTokens, String title, String body);
+}
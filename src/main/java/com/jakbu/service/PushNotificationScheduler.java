@@ -1,105 +1,179 @@
 package com.jakbu.service;
 
-import com.jakbu.domain.NotificationSetting;
+import com.jakbu.domain.JobCheckpoint;
 import com.jakbu.domain.enums.IntervalType;
+import com.jakbu.dto.PushRecipient;
+import com.jakbu.repository.JobCheckpointRepository;
 import com.jakbu.repository.NotificationSettingRepository;
-import com.jakbu.repository.TodoRepository;
-import com.jakbu.domain.enums.TodoStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
 public class PushNotificationScheduler {
 
+    private static final Logger logger = LoggerFactory.getLogger(PushNotificationScheduler.class);
+    private static final String PUSH_TITLE = "JakBu 알림";
+    private static final int DAILY_REMINDER_HOUR = 9;
+    private static final String SHARD_LEASE_PREFIX = "push-reminder-shard-";
+    // 샤드별 마지막으로 처리한 분(epoch 분)을 job_checkpoints에 같은 이름으로 기록
+    private static final String CHECKPOINT_RUN_KEY = "minute";
+    // 매분 실행되므로 다음 회차 전에 만료되도록 1분보다 짧게
+    private static final Duration LEASE_TIME = Duration.ofSeconds(50);
+
     private final NotificationSettingRepository notificationSettingRepository;
-    private final TodoRepository todoRepository;
-    private final NotificationService notificationService;
+    private final PushOutboxService pushOutboxService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ClusterMembershipService clusterMembershipService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final int scanPageSize;
+    private final int shardCount;
+    private final int maxCatchUpMinutes;
 
     public PushNotificationScheduler(NotificationSettingRepository notificationSettingRepository,
-                                    TodoRepository todoRepository,
-                                    NotificationService notificationService) {
+                                    PushOutboxService pushOutboxService,
+                                    SchedulerLeaseService schedulerLeaseService,
+                                    ClusterMembershipService clusterMembershipService,
+                                    JobCheckpointRepository jobCheckpointRepository,
+                                    @Value("${notification.scan.page-size:500}") int scanPageSize,
+                                    @Value("${notification.sharding.shard-count:16}") int shardCount,
+                                    @Value("${notification.reminder.max-catch-up-minutes:10}") int maxCatchUpMinutes) {
         this.notificationSettingRepository = notificationSettingRepository;
-        this.todoRepository = todoRepository;
-        this.notificationService = notificationService;
+        this.pushOutboxService = pushOutboxService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.clusterMembershipService = clusterMembershipService;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.scanPageSize = scanPageSize;
+        this.shardCount = shardCount;
+        this.maxCatchUpMinutes = maxCatchUpMinutes;
     }
 
-    @Scheduled(fixedRate = 7200000) // 2시간마다 실행 (밀리초 단위)
-    @Transactional(readOnly = true)
-    public void sendTwoHourNotifications() {
-        List<NotificationSetting> settings = notificationSettingRepository.findByEnabledTrue();
-        LocalDate today = LocalDate.now();
-
-        for (NotificationSetting setting : settings) {
-            if (setting.getIntervalType() == IntervalType.TWO_HOUR && setting.getEnabled()) {
-                Long userId = setting.getUser().getId();
-                
-                // 미완료 TODO가 있는지 확인
-                boolean hasIncompleteTodos = todoRepository.existsByUserIdAndDateAndStatus(
-                        userId, today, TodoStatus.TODO);
-
-                if (hasIncompleteTodos && setting.getUser().getFcmToken() != null) {
-                    notificationService.sendPushNotification(
-                            setting.getUser().getFcmToken(),
-                            "JakBu 알림",
-                            "아직 완료하지 않은 할 일이 있어요!"
-                    );
-                }
+    /**
+     * 기존 설정 중 알림 슬롯이 비어 있는 행을 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReminderSlots() {
+        for (IntervalType intervalType : IntervalType.values()) {
+            int updated = notificationSettingRepository.backfillReminderSlots(intervalType, intervalType.getSlotCount());
+            if (updated > 0) {
+                logger.info("Assigned reminder slots to {} {} settings", updated, intervalType);
             }
         }
     }
 
-    @Scheduled(fixedRate = 14400000) // 4시간마다 실행 (밀리초 단위)
-    @Transactional(readOnly = true)
-    public void sendFourHourNotifications() {
-        List<NotificationSetting> settings = notificationSettingRepository.findByEnabledTrue();
-        LocalDate today = LocalDate.now();
-
-        for (NotificationSetting setting : settings) {
-            if (setting.getIntervalType() == IntervalType.FOUR_HOUR && setting.getEnabled()) {
-                Long userId = setting.getUser().getId();
-                
-                // 미완료 TODO가 있는지 확인
-                boolean hasIncompleteTodos = todoRepository.existsByUserIdAndDateAndStatus(
-                        userId, today, TodoStatus.TODO);
-
-                if (hasIncompleteTodos && setting.getUser().getFcmToken() != null) {
-                    notificationService.sendPushNotification(
-                            setting.getUser().getFcmToken(),
-                            "JakBu 알림",
-                            "아직 완료하지 않은 할 일이 있어요!"
-                    );
-                }
+    /**
+     * 매분 실행되어 현재 분에 해당하는 슬롯의 사용자에게만 알림을 보냄
+     * - 2시간/4시간 간격: 하루 중 몇 번째 분인지를 주기(120분/240분)로 나눈 나머지가 슬롯
+     * - 매일: 오전 9시대의 분이 슬롯
+     * - 슬롯은 사용자 ID로 정해지므로 부하가 주기 전체에 고르게 퍼지고, 재배포해도 발송 시각이 바뀌지 않음
+     * - 사용자는 userId 해시(나머지)로 샤드에 나뉘고, 각 인스턴스는 자신이 맡은 샤드만 처리
+     * - 재분배 중 두 인스턴스가 같은 샤드를 맡더라도 샤드별 리스로 한 곳에서만 실행
+     * - 재분배 중에는 인스턴스마다 하트비트 시점이 달라 어느 인스턴스도 맡지 않은 샤드가 생길 수 있으므로,
+     *   샤드별로 마지막으로 처리한 분을 남기고 새로 맡은 인스턴스가 놓친 분(최대 max-catch-up-minutes)을 이어서 처리
+     */
+    @Scheduled(cron = "${notification.reminder.cron:0 * * * * *}")
+    public void sendDueReminders() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        for (int shard : clusterMembershipService.ownedShards(shardCount)) {
+            schedulerLeaseService.runExclusively(SHARD_LEASE_PREFIX + shard, LEASE_TIME,
+                    () -> sendMissedReminders(now, shard));
+        }
+    }
+
+    /**
+     * 샤드의 마지막 처리 분 다음부터 now까지 분마다 적재하고 처리한 분을 기록
+     * - 처음 실행하는 샤드는 now만 처리
+     * - 놓친 분을 따라잡느라 리스 시간을 넘길 수 있으므로 분마다 리스를 연장
+     */
+    private void sendMissedReminders(LocalDateTime now, int shard) {
+        String name = SHARD_LEASE_PREFIX + shard;
+        long nowMinute = epochMinute(now);
+        Long lastMinute = jobCheckpointRepository.findById(name)
+                .filter(checkpoint -> checkpoint.getRunKey().equals(CHECKPOINT_RUN_KEY))
+                .map(JobCheckpoint::getLastPosition)
+                .orElse(null);
+        if (lastMinute == null) {
+            lastMinute = nowMinute - 1;
+            jobCheckpointRepository.start(name, CHECKPOINT_RUN_KEY, 0, LocalDateTime.now());
+            jobCheckpointRepository.record(name, CHECKPOINT_RUN_KEY, lastMinute, LocalDateTime.now());
+        }
+
+        long firstMinute = Math.max(lastMinute + 1, nowMinute - maxCatchUpMinutes);
+        if (firstMinute > lastMinute + 1) {
+            logger.warn("Shard {} skipped reminder minutes {} to {} (catch-up limit {} minutes)",
+                    shard, lastMinute + 1, firstMinute - 1, maxCatchUpMinutes);
+        }
+        for (long minute = firstMinute; minute <= nowMinute; minute++) {
+            LocalDateTime time = now.minusMinutes(nowMinute - minute);
+            if (minute > firstMinute && !schedulerLeaseService.tryAcquire(name, LEASE_TIME)) {
+                logger.warn("Lost {} lease while catching up reminder minutes before {}", name, time);
+                return;
+            }
+            if (minute < nowMinute) {
+                logger.info("Shard {} catching up missed reminder minute {}", shard, time);
             }
+            sendRemindersForMinute(time, shard);
+            jobCheckpointRepository.record(name, CHECKPOINT_RUN_KEY, minute, LocalDateTime.now());
         }
     }
 
-    @Scheduled(cron = "0 0 9 * * *") // 매일 오전 9시에 실행
-    @Transactional(readOnly = true)
-    public void sendDailyNotifications() {
-        List<NotificationSetting> settings = notificationSettingRepository.findByEnabledTrue();
-        LocalDate today = LocalDate.now();
-
-        for (NotificationSetting setting : settings) {
-            if (setting.getIntervalType() == IntervalType.DAILY && setting.getEnabled()) {
-                Long userId = setting.getUser().getId();
-                
-                // 미완료 TODO가 있는지 확인
-                boolean hasIncompleteTodos = todoRepository.existsByUserIdAndDateAndStatus(
-                        userId, today, TodoStatus.TODO);
-
-                if (hasIncompleteTodos && setting.getUser().getFcmToken() != null) {
-                    notificationService.sendPushNotification(
-                            setting.getUser().getFcmToken(),
-                            "JakBu 알림",
-                            "오늘의 할 일을 확인해보세요!"
-                    );
-                }
+    private static long epochMinute(LocalDateTime time) {
+        return ChronoUnit.MINUTES.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+
+    /**
+     * 한 샤드에서 해당 시각(분)에 알림을 받을 사용자를 발송 대기열에 적재 (리스 없이 바로 실행)
+     */
+    void sendRemindersForMinute(LocalDateTime time, int shard) {
+        LocalDate date = time.toLocalDate();
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+
+        sendReminders(IntervalType.TWO_HOUR, minuteOfDay % IntervalType.TWO_HOUR.getSlotCount(), shard, date,
+                "아직 완료하지 않은 할 일이 있어요!");
+        sendReminders(IntervalType.FOUR_HOUR, minuteOfDay % IntervalType.FOUR_HOUR.getSlotCount(), shard, date,
+                "아직 완료하지 않은 할 일이 있어요!");
+        if (time.getHour() == DAILY_REMINDER_HOUR) {
+            sendReminders(IntervalType.DAILY, time.getMinute(), shard, date, "오늘의 할 일을 확인해보세요!");
+        }
+    }
+
+    /**
+     * date에 미완료 TODO가 있는 알림 대상을 userId 키셋 페이지 단위로 순회하며 발송 대기열(push_outbox)에 적재
+     * - 페이지마다 별도 트랜잭션에서 프로젝션만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않음
+     * - 실제 발송과 재시도는 PushOutboxWorker가 담당
+     */
+    private void sendReminders(IntervalType intervalType, int slot, int shard, LocalDate date, String body) {
+        PageRequest pageRequest = PageRequest.of(0, scanPageSize);
+        Long lastUserId = 0L;
+        int enqueued = 0;
+
+        List<PushRecipient> page;
+        do {
+            page = notificationSettingRepository.findPushRecipientsAfter(intervalType, slot, intervalType.getSlotCount(),
+                    shard, shardCount, date, date.getDayOfWeek().getValue(), lastUserId, pageRequest);
+            if (page.isEmpty()) {
+                break;
             }
+
+            pushOutboxService.enqueue(page, PUSH_TITLE, body);
+            enqueued += page.size();
+
+            lastUserId = page.get(page.size() - 1).userId();
+        } while (page.size() == scanPageSize);
+
+        if (enqueued > 0) {
+            logger.info("{} reminder slot {} shard {} enqueued {} messages", intervalType, slot, shard, enqueued);
         }
     }
 }
-
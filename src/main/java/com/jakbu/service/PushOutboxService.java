@@ -0,0 +1,149 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.PushOutbox;
+import com.jakbu.domain.enums.PushFailureType;
+import com.jakbu.domain.enums.PushOutboxStatus;
+import com.jakbu.dto.PushRecipient;
+import com.jakbu.dto.PushSendResult;
+import com.jakbu.repository.PushOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+public class PushOutboxService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO push_outbox (user_id, fcm_token, title, body, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+    private static final String UPDATE_RESULT_SQL =
+            "UPDATE push_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration sendingLease;
+
+    public PushOutboxService(PushOutboxRepository pushOutboxRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${notification.outbox.batch-size:500}") int batchSize,
+                             @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${notification.outbox.backoff-base-seconds:30}") long backoffBaseSeconds,
+                             @Value("${notification.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.sendingLease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 알림 대상에게 보낼 메시지를 JDBC 배치 INSERT로 한 번에 적재
+     */
+    public void enqueue(List<PushRecipient> recipients, String title, String body) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, recipients, recipients.size(), (ps, recipient) -> {
+            ps.setLong(1, recipient.userId());
+            ps.setString(2, recipient.fcmToken());
+            ps.setString(3, title);
+            ps.setString(4, body);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * 발송할 차례가 된 메시지를 최대 batchSize개 점유 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - 점유한 행은 SENDING으로 바꾸고 점유 만료 시각까지 다른 워커가 가져가지 않음
+     */
+    public List<PushOutbox> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = pushOutboxRepository.lockDueIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        pushOutboxRepository.markSending(ids, PushOutboxStatus.SENDING, now.plus(sendingLease));
+        return pushOutboxRepository.findByIdIn(ids);
+    }
+
+    /**
+     * 발송 결과를 반영
+     * - 성공: SENT
+     * - 무효 토큰 / 영구 실패: FAILED
+     * - 일시적 실패: 지수 백오프 후 재시도, 최대 시도 횟수를 넘으면 FAILED
+     * - 결과가 없는 행은 그대로 두어 점유 만료 후 다시 발송
+     */
+    public void complete(List<PushOutbox> messages, List<PushSendResult> results) {
+        Map<String, PushSendResult> resultByToken = new HashMap<>();
+        for (PushSendResult result : results) {
+            resultByToken.put(result.fcmToken(), result);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> updates = new ArrayList<>();
+        for (PushOutbox message : messages) {
+            PushSendResult result = resultByToken.get(message.getFcmToken());
+            if (result == null) {
+                continue;
+            }
+
+            int attempts = message.getAttempts() + 1;
+            PushOutboxStatus status;
+            LocalDateTime nextAttemptAt = now;
+            if (result.success()) {
+                status = PushOutboxStatus.SENT;
+            } else if (result.failureType() == PushFailureType.RETRYABLE && attempts < maxAttempts) {
+                status = PushOutboxStatus.PENDING;
+                nextAttemptAt = now.plus(backoffBase.multipliedBy(1L << (attempts - 1)));
+            } else {
+                status = PushOutboxStatus.FAILED;
+            }
+            updates.add(new Object[]{status.name(), attempts, Timestamp.valueOf(nextAttemptAt),
+                    result.errorCode(), message.getId()});
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_RESULT_SQL, updates);
+        }
+    }
+
+    /**
+     * 처리가 끝난 지 오래된 메시지를 나눠서 삭제 (청크마다 별도 트랜잭션)
+     *
+     * @return 삭제된 메시지 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgeFinishedBefore(LocalDateTime before) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = pushOutboxRepository.deleteFinishedBefore(before, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return total;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
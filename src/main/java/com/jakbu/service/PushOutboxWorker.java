@@ -0,0 +1,121 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.PushOutbox;
+import com.jakbu.dto.PushSendResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class PushOutboxWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushOutboxWorker.class);
+    private static final String PURGE_LEASE_NAME = "push-outbox-purge";
+    private static final Duration PURGE_LEASE_TIME = Duration.ofHours(1);
+
+    private final PushOutboxService pushOutboxService;
+    private final NotificationService notificationService;
+    private final PushDispatcher pushDispatcher;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final int retentionDays;
+
+    public PushOutboxWorker(PushOutboxService pushOutboxService,
+                            NotificationService notificationService,
+                            PushDispatcher pushDispatcher,
+                            SchedulerLeaseService schedulerLeaseService,
+                            @Value("${notification.outbox.retention-days:7}") int retentionDays) {
+        this.pushOutboxService = pushOutboxService;
+        this.notificationService = notificationService;
+        this.pushDispatcher = pushDispatcher;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 발송할 차례가 된 메시지를 배치 단위로 점유해 발송 실행기에 넘김
+     * - 발송 실행기에 여유가 없으면 다음 주기로 미룸
+     * - SKIP LOCKED로 인스턴스마다 다른 행을 점유하므로 리스 없이 모든 인스턴스에서 함께 실행
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatchDueMessages() {
+        while (pushDispatcher.getAvailableSlots() > 0) {
+            List<PushOutbox> batch = pushOutboxService.claimDueBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            dispatch(batch);
+
+            if (batch.size() < pushOutboxService.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 처리 완료된 오래된 메시지 정리
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeFinishedMessages() {
+        schedulerLeaseService.runExclusively(PURGE_LEASE_NAME, PURGE_LEASE_TIME, () -> {
+            int deleted = pushOutboxService.purgeFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+            logger.info("Purged {} finished push outbox messages", deleted);
+        });
+    }
+
+    private void dispatch(List<PushOutbox> batch) {
+        // 같은 제목/본문끼리 묶어 멀티캐스트로 발송
+        Map<MessageContent, List<PushOutbox>> groups = new LinkedHashMap<>();
+        for (PushOutbox message : batch) {
+            MessageContent content = new MessageContent(message.getTitle(), message.getBody());
+            groups.computeIfAbsent(content, key -> new ArrayList<>()).add(message);
+        }
+
+        groups.forEach((content, messages) -> {
+            List<String> fcmTokens = messages.stream()
+                    .map(PushOutbox::getFcmToken)
+                    .distinct()
+                    .toList();
+
+            for (CompletableFuture<List<PushSendResult>> future
+                    : notificationService.dispatchPushNotifications(fcmTokens, content.title(), content.body())) {
+                future.whenComplete((results, error) -> {
+                    if (error != null) {
+                        // 점유 만료 후 다시 발송됨
+                        logger.warn("Push outbox batch was not sent, will retry after lease expiry: {}", error.getMessage());
+                        return;
+                    }
+                    handleResults(messages, results);
+                });
+            }
+        });
+    }
+
+    private void handleResults(List<PushOutbox> messages, List<PushSendResult> results) {
+        try {
+            pushOutboxService.complete(messages, results);
+
+            List<String> invalidTokens = results.stream()
+                    .filter(PushSendResult::isInvalidToken)
+                    .map(PushSendResult::fcmToken)
+                    .toList();
+            notificationService.removeInvalidTokens(invalidTokens);
+        } catch (RuntimeException e) {
+            // 결과 반영에 실패한 행은 점유 만료 후 다시 발송됨
+            logger.error("Failed to record push outbox results", e);
+        }
+    }
+
+    private record MessageContent(String title, String body) {
+    }
+}
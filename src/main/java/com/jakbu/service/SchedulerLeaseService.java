@@ -0,0 +1,91 @@
+package com.jakbu.service;
+
+import com.jakbu.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하도록 DB 리스로 조율
+ * - 리스는 작업 이름별로 하나이며 TTL이 지나기 전에는 다른 인스턴스가 가져갈 수 없음
+ * - 실행이 끝나도 TTL까지 리스를 유지하므로, 같은 회차를 조금 늦게 시작한 인스턴스는 건너뜀
+ *   (TTL은 작업 주기보다 짧게 지정)
+ */
+@Service
+public class SchedulerLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeaseService.class);
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String holderId;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 @Value("${scheduler.lease.holder-id:}") String holderId) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.holderId = holderId.isEmpty() ? defaultHolderId() : holderId;
+    }
+
+    /**
+     * 리스를 얻은 경우에만 작업을 실행
+     * - 여러 인스턴스가 같은 주기로 호출해도 리스를 가진 한 곳에서만 실행되므로, 각 스케줄 작업은 이 메서드로 감싸기만 하면 됨
+     * - 작업이 leaseTime보다 오래 걸릴 수 있으면 작업 안에서 tryAcquire로 리스를 연장해야 함
+     *
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runExclusively(String name, Duration leaseTime, Runnable job) {
+        if (!tryAcquire(name, leaseTime)) {
+            logger.debug("Skipping {}: lease is held by another instance", name);
+            return false;
+        }
+        job.run();
+        return true;
+    }
+
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseTime);
+
+        if (schedulerLeaseRepository.renewOrTakeOver(name, holderId, expiresAt, now) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+
+        try {
+            return schedulerLeaseRepository.insertLease(name, holderId, expiresAt) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 리스를 만든 경우
+            return false;
+        }
+    }
+
+    /**
+     * 자신이 가진 리스를 즉시 만료시켜 다른 인스턴스가 가져갈 수 있게 함
+     */
+    public void release(String name) {
+        schedulerLeaseRepository.release(name, holderId, LocalDateTime.now());
+    }
+
+    public String getHolderId() {
+        return holderId;
+    }
+
+    private static String defaultHolderId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.enums.PushFailureType;
+import com.jakbu.dto.PushSendResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 없이 알림 파이프라인을 부하 테스트하기 위한 프로세스 내 스텁
+ * - 요청마다 latency-ms만큼 지연
+ * - error-rate 확률로 일시적 오류(UNAVAILABLE)
+ * - invalid-token-rate 확률로 토큰을 만료시키며, 만료된 토큰은 이후에도 계속 UNREGISTERED
+ */
+@Component
+@ConditionalOnProperty(name = "notification.gateway", havingValue = "stub")
+public class StubPushGateway implements PushGateway {
+
+    private final long latencyMillis;
+    private final double errorRate;
+    private final double invalidTokenRate;
+    private final Set<String> invalidatedTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    public StubPushGateway(@Value("${notification.stub.latency-ms:50}") long latencyMillis,
+                           @Value("${notification.stub.error-rate:0.0}") double errorRate,
+                           @Value("${notification.stub.invalid-token-rate:0.0}") double invalidTokenRate) {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.invalidTokenRate = invalidTokenRate;
+    }
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> fcmTokens, String title, String body) {
+        simulateLatency();
+        List<PushSendResult> results = new ArrayList<>(fcmTokens.size());
+        for (String fcmToken : fcmTokens) {
+            results.add(resultFor(fcmToken));
+        }
+        return results;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    private PushSendResult resultFor(String fcmToken) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (invalidatedTokens.contains(fcmToken)) {
+            return PushSendResult.failed(fcmToken, "UNREGISTERED", PushFailureType.INVALID_TOKEN);
+        }
+        if (random.nextDouble() < invalidTokenRate) {
+            invalidatedTokens.add(fcmToken);
+            return PushSendResult.failed(fcmToken, "UNREGISTERED", PushFailureType.INVALID_TOKEN);
+        }
+        if (random.nextDouble() < errorRate) {
+            return PushSendResult.failed(fcmToken, "UNAVAILABLE", PushFailureType.RETRYABLE);
+        }
+        deliveredCount.incrementAndGet();
+        return PushSendResult.succeeded(fcmToken);
+    }
+
+    private void simulateLatency() {
+        requestCount.incrementAndGet();
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jakbu.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "todo.archive.enabled", havingValue = "true")
+public class TodoArchiveScheduler {
+
+    private static final String LEASE_NAME = "todo-archive";
+    private static final Duration LEASE_TIME = Duration.ofHours(2);
+
+    private final TodoArchiveService todoArchiveService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public TodoArchiveScheduler(TodoArchiveService todoArchiveService, SchedulerLeaseService schedulerLeaseService) {
+        this.todoArchiveService = todoArchiveService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 매일 새벽 보관 기간이 지난 Todo를 todos_archive로 옮깁니다.
+     */
+    @Scheduled(cron = "${todo.archive.cron:0 30 4 * * *}")
+    public void archiveOldTodos() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, todoArchiveService::archiveOldTodos);
+    }
+}
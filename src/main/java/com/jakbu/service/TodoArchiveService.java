@@ -0,0 +1,93 @@
+package com.jakbu.service;
+
+import com.jakbu.repository.ArchivedTodoRepository;
+import com.jakbu.repository.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 Todo 보관(todos -> todos_archive)
+ * - 보관 기간(todo.archive.horizon-days)보다 이전 날짜의 Todo를 옮겨 todos와 그 인덱스를 최근 데이터 크기로 유지
+ * - 보관된 Todo는 조회 전용: 날짜별/기간 조회는 TodoRepository가 두 테이블을 합쳐 읽고, 수정/삭제 대상에서는 제외
+ */
+@Service
+@Transactional
+public class TodoArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoArchiveService.class);
+
+    private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Timer archiveTimer;
+    private final Counter archiveRows;
+
+    public TodoArchiveService(TodoRepository todoRepository,
+                              ArchivedTodoRepository archivedTodoRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${todo.archive.horizon-days:365}") int horizonDays,
+                              @Value("${todo.archive.batch-size:1000}") int batchSize) {
+        this.todoRepository = todoRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.archiveTimer = meterRegistry.timer("todo.archive.duration");
+        this.archiveRows = meterRegistry.counter("todo.archive.rows");
+    }
+
+    /**
+     * 보관 기준일(오늘 - horizon-days) 이전 날짜의 Todo를 날짜, ID 순으로 batch-size씩 옮김
+     * - 배치마다 별도 트랜잭션이라 잠금은 한 배치를 옮기는 동안만 유지됨
+     * - 옮긴 행은 todos에서 지워지므로 중단 후 다시 실행하면 남은 행부터 이어서 처리
+     * @return 옮긴 Todo 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveOldTodos() {
+        LocalDate cutoff = LocalDate.now().minusDays(horizonDays);
+        long startedAt = System.nanoTime();
+        int archived = 0;
+
+        List<Long> ids;
+        while (!(ids = todoRepository.findIdsDatedBefore(cutoff, PageRequest.of(0, batchSize))).isEmpty()) {
+            int moved = archivedTodoRepository.moveFromTodos(ids, LocalDateTime.now());
+            if (moved == 0) {
+                break;
+            }
+            archived += moved;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        archiveTimer.record(elapsed);
+        archiveRows.increment(archived);
+        if (archived > 0) {
+            logger.info("Archived {} todos dated before {} in {} ms", archived, cutoff, elapsed.toMillis());
+        }
+        return archived;
+    }
+
+    /**
+     * 보관 기준일 이전 날짜인지 (그 날짜의 Todo는 옮겨졌거나 곧 옮겨지므로 조회 전용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isArchivedDate(LocalDate date) {
+        return date.isBefore(LocalDate.now().minusDays(horizonDays));
+    }
+
+    public void deleteByUserId(Long userId) {
+        archivedTodoRepository.deleteByUserId(userId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jakbu.service;
+
+import com.jakbu.dto.TodoCacheInvalidation;
+
+/**
+ * 다른 인스턴스에 Todo 캐시 무효화를 전달하는 채널
+ * - 구현체는 받은 메시지를 각 인스턴스의 TodoDayCache.applyLocally로 넘기면 됨
+ * - todo.cache.invalidation-channel로 선택 (기본 local: 전달하지 않음)
+ */
+public interface TodoCacheInvalidationChannel {
+
+    void publish(TodoCacheInvalidation invalidation);
+}
@@ -0,0 +1,40 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class TodoCalendarScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoCalendarScheduler.class);
+    private static final String LEASE_NAME = "todo-calendar-rebuild";
+    private static final Duration LEASE_TIME = Duration.ofHours(1);
+
+    private final TodoCalendarService todoCalendarService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public TodoCalendarScheduler(TodoCalendarService todoCalendarService, SchedulerLeaseService schedulerLeaseService) {
+        this.todoCalendarService = todoCalendarService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 초기 구축을 끝낸 기록이 없으면(최초 배포 또는 구축 중단) todos로부터 전체를 만듭니다.
+     * 이후에는 Todo 변경마다 바뀐 날짜의 비트만 갱신됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfMissing() {
+        if (todoCalendarService.isBuilt()) {
+            return;
+        }
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int chunks = todoCalendarService.rebuild();
+            logger.info("Built user_month_calendar in {} chunks", chunks);
+        });
+    }
+}
@@ -0,0 +1,183 @@
+package com.jakbu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jakbu.domain.JobCheckpoint;
+import com.jakbu.domain.UserMonthCalendar;
+import com.jakbu.domain.UserMonthCalendarId;
+import com.jakbu.dto.TodoCalendarResponse;
+import com.jakbu.repository.JobCheckpointRepository;
+import com.jakbu.repository.UserMonthCalendarRepository;
+import com.jakbu.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 월 달력(Todo가 있는 날, 모두 완료한 날) 조회
+ * - 사용자/월마다 비트 두 개를 저장하므로 조회는 기본 키 한 행
+ * - 저장된 비트는 저장된 Todo만 반영하고, 아직 저장되지 않은 반복 템플릿 항목(TODO)은 읽을 때 겹쳐 계산
+ *   (끝나지 않는 템플릿은 미래 달까지 펼쳐지므로 저장하지 않음, 템플릿이 바뀌면 사용자 캐시를 비움)
+ * - 조회 결과는 인스턴스 메모리에 캐시하고, 이 인스턴스의 변경은 커밋 후 바로 비움
+ *   (다른 인스턴스의 변경은 todo.cache.ttl-seconds 안에 반영)
+ */
+@Service
+@Transactional
+public class TodoCalendarService {
+
+    private static final String CACHE_NAME = "todo.calendar";
+    private static final String BUILD_JOB_NAME = "todo-calendar-build";
+    private static final String BUILD_RUN_KEY = "initial";
+
+    private record Key(Long userId, YearMonth month) {
+    }
+
+    private final UserMonthCalendarRepository userMonthCalendarRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final PendingOccurrenceReader pendingOccurrenceReader;
+    private final Cache<Key, TodoCalendarResponse> cache;
+    private final boolean cacheEnabled;
+    private final int rebuildChunkSize;
+
+    public TodoCalendarService(UserMonthCalendarRepository userMonthCalendarRepository,
+                               UserRepository userRepository,
+                               JobCheckpointRepository jobCheckpointRepository,
+                               PendingOccurrenceReader pendingOccurrenceReader,
+                               MeterRegistry meterRegistry,
+                               @Value("${todo.cache.enabled:true}") boolean cacheEnabled,
+                               @Value("${todo.cache.max-size:10000}") long maxSize,
+                               @Value("${todo.cache.ttl-seconds:30}") long ttlSeconds,
+                               @Value("${todo.summary.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.userMonthCalendarRepository = userMonthCalendarRepository;
+        this.userRepository = userRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.pendingOccurrenceReader = pendingOccurrenceReader;
+        this.cacheEnabled = cacheEnabled;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 적중 시 DB 커넥션을 쓰지 않도록 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TodoCalendarResponse getCalendar(Long userId, YearMonth month) {
+        if (!cacheEnabled) {
+            return load(userId, month);
+        }
+        return cache.get(new Key(userId, month), key -> load(userId, month));
+    }
+
+    /**
+     * date의 Todo가 바뀐 뒤 호출 (호출자의 트랜잭션 안에서 그날의 비트만 다시 계산)
+     */
+    public void recordChange(Long userId, LocalDate date) {
+        userMonthCalendarRepository.refreshDay(userId, date, date.withDayOfMonth(1),
+                1 << (date.getDayOfMonth() - 1), System.currentTimeMillis());
+        evict(new Key(userId, YearMonth.from(date)));
+    }
+
+    /**
+     * 반복 템플릿을 만들거나 끝내거나 항목을 건너뛴 뒤 호출 (커밋 후 사용자의 모든 달을 캐시에서 비움)
+     */
+    public void recordTemplateChange(Long userId) {
+        afterCommit(() -> cache.asMap().keySet().removeIf(key -> key.userId().equals(userId)));
+    }
+
+    /**
+     * 기존 Todo로부터 달력을 만드는 초기 구축을 끝냈는지
+     * - 테이블이 비어 있는지로 판단하면 구축 전에 들어온 Todo 변경이 행을 만들어 구축을 건너뛰게 되므로 완료 기록으로 판단
+     */
+    @Transactional(readOnly = true)
+    public boolean isBuilt() {
+        return jobCheckpointRepository.findById(BUILD_JOB_NAME)
+                .map(JobCheckpoint::isFinished)
+                .orElse(false);
+    }
+
+    /**
+     * 사용자 ID 구간 단위로 todos에서 달력 비트를 다시 계산 (구간마다 별도 트랜잭션)
+     * - 구간마다 진행 위치를 남기므로 중단되면 다음 시작 시 이어서 처리하고, 끝나면 완료로 기록
+     * - 구축 중에 바뀐 날짜는 Todo 변경 시 refreshDay가 다시 계산하므로 구축 결과와 어긋나지 않음
+     * @return 다시 계산한 구간 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(BUILD_JOB_NAME)
+                .filter(existing -> existing.getRunKey().equals(BUILD_RUN_KEY) && !existing.isFinished())
+                .orElse(null);
+        long start = 1;
+        long target;
+        if (checkpoint != null) {
+            start = checkpoint.getLastPosition() + 1;
+            target = checkpoint.getTargetPosition();
+        } else {
+            target = userRepository.findMaxId();
+            jobCheckpointRepository.start(BUILD_JOB_NAME, BUILD_RUN_KEY, target, LocalDateTime.now());
+        }
+
+        int chunks = 0;
+        for (long from = start; from <= target; from += rebuildChunkSize) {
+            long to = Math.min(from + rebuildChunkSize - 1, target);
+            userMonthCalendarRepository.rebuildRange(from, to, System.currentTimeMillis());
+            jobCheckpointRepository.record(BUILD_JOB_NAME, BUILD_RUN_KEY, to, LocalDateTime.now());
+            chunks++;
+        }
+        jobCheckpointRepository.finish(BUILD_JOB_NAME, BUILD_RUN_KEY, LocalDateTime.now());
+        cache.invalidateAll();
+        return chunks;
+    }
+
+    public void deleteByUserId(Long userId) {
+        userMonthCalendarRepository.deleteByUserId(userId);
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    private TodoCalendarResponse load(Long userId, YearMonth month) {
+        UserMonthCalendar calendar = userMonthCalendarRepository
+                .findById(new UserMonthCalendarId(userId, month.atDay(1)))
+                .orElse(null);
+        int hasTodos = calendar != null ? calendar.getHasTodos() : 0;
+        int allDone = calendar != null ? calendar.getAllDone() : 0;
+
+        // 미저장 반복 항목이 있는 날은 Todo가 있고 모두 완료하지 않은 날
+        int pending = 0;
+        for (LocalDate date : pendingOccurrenceReader.countByDate(userId, month.atDay(1), month.atEndOfMonth()).keySet()) {
+            pending |= 1 << (date.getDayOfMonth() - 1);
+        }
+        return TodoCalendarResponse.of(month, hasTodos | pending, allDone & ~pending);
+    }
+
+    private void evict(Key key) {
+        afterCommit(() -> cache.invalidate(key));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
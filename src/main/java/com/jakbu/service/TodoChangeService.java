@@ -0,0 +1,110 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.TodoChangeCursor;
+import com.jakbu.domain.TodoTombstone;
+import com.jakbu.dto.TodoChangesResponse;
+import com.jakbu.dto.TodoResponse;
+import com.jakbu.repository.TodoChangeCursorRepository;
+import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기기 간 증분 동기화를 위한 Todo 변경 번호와 삭제 기록 관리
+ */
+@Service
+@Transactional
+public class TodoChangeService {
+
+    /**
+     * 커서 = 변경 번호 * CURSOR_DAY_FACTOR + 동기화한 날짜(epoch day)
+     */
+    private static final long CURSOR_DAY_FACTOR = 1_000_000L;
+
+    private final TodoChangeCursorRepository todoChangeCursorRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TodoRepository todoRepository;
+    private final int tombstoneRetentionDays;
+
+    public TodoChangeService(TodoChangeCursorRepository todoChangeCursorRepository,
+                             TodoTombstoneRepository todoTombstoneRepository,
+                             TodoRepository todoRepository,
+                             @Value("${todo.changes.tombstone-retention-days:30}") int tombstoneRetentionDays) {
+        this.todoChangeCursorRepository = todoChangeCursorRepository;
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.todoRepository = todoRepository;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * 현재 트랜잭션에서 쓸 새 변경 번호를 발급
+     * - 사용자 커서 행이 커밋까지 잠기므로 같은 사용자의 변경은 발급 순서대로 커밋됨
+     */
+    public long nextChangeSeq(Long userId) {
+        todoChangeCursorRepository.advance(userId);
+        return todoChangeCursorRepository.findSeq(userId)
+                .orElseThrow(() -> new RuntimeException("Change cursor not found"));
+    }
+
+    public void recordDeletion(Long userId, Long todoId, long changeSeq) {
+        todoTombstoneRepository.save(new TodoTombstone(userId, todoId, changeSeq));
+    }
+
+    /**
+     * since 이후의 변경을 조회
+     * - 커서와 변경 목록을 한 읽기 트랜잭션(같은 스냅샷)에서 읽으므로, 아직 커밋되지 않은 변경은 커서보다 큰 번호로 다음 조회에 포함됨
+     * - 커서는 변경 번호와 동기화한 날짜를 함께 담음: 그 사이 날짜가 지나 TODO로 계산되는 완료 Todo도 변경으로 포함
+     * - since가 0이거나 정리된 삭제 기록보다 오래되었으면(또는 서버 커서보다 크면) 전체 목록을 반환
+     */
+    @Transactional(readOnly = true)
+    public TodoChangesResponse getChangesSince(Long userId, long since) {
+        LocalDate today = LocalDate.now();
+        TodoChangeCursor cursor = todoChangeCursorRepository.findById(userId).orElse(null);
+        long current = cursor != null ? cursor.getSeq() : 0L;
+        long purgedSeq = cursor != null ? cursor.getPurgedSeq() : 0L;
+        long nextCursor = encodeCursor(current, today);
+
+        long sinceSeq = since / CURSOR_DAY_FACTOR;
+        LocalDate syncedOn = LocalDate.ofEpochDay(Math.floorMod(since, CURSOR_DAY_FACTOR));
+        if (since <= 0 || sinceSeq < purgedSeq || sinceSeq > current || syncedOn.isAfter(today)) {
+            List<TodoResponse> all = todoRepository.findResponsesByUserId(userId, today);
+            return new TodoChangesResponse(nextCursor, true, all, List.of());
+        }
+
+        Map<Long, TodoResponse> changed = new LinkedHashMap<>();
+        todoRepository.findResponsesChangedBetween(userId, sinceSeq, current, today)
+                .forEach(todo -> changed.put(todo.id(), todo));
+        if (syncedOn.isBefore(today)) {
+            todoRepository.findResponsesExpiredBetween(userId, syncedOn, today)
+                    .forEach(todo -> changed.putIfAbsent(todo.id(), todo));
+        }
+        List<Long> deleted = todoTombstoneRepository.findTodoIdsChangedBetween(userId, sinceSeq, current);
+        return new TodoChangesResponse(nextCursor, false, List.copyOf(changed.values()), deleted);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (정리한 범위는 purgedSeq로 남겨 오래된 커서를 전체 동기화로 돌림)
+     */
+    public int purgeExpiredTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        todoChangeCursorRepository.markPurgedBefore(before);
+        return todoTombstoneRepository.deleteBefore(before);
+    }
+
+    private static long encodeCursor(long seq, LocalDate date) {
+        return seq * CURSOR_DAY_FACTOR + date.toEpochDay();
+    }
+
+    public void deleteByUserId(Long userId) {
+        todoTombstoneRepository.deleteByUserId(userId);
+        todoChangeCursorRepository.deleteByUserId(userId);
+    }
+}
@@ -0,0 +1,150 @@
+package com.jakbu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jakbu.dto.TodoCacheInvalidation;
+import com.jakbu.dto.TodoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * (userId, date)별 Todo 목록 캐시 (반복 템플릿 항목을 펼친 목록)
+ * - 크기(todo.cache.max-size)와 쓰기 후 경과 시간(todo.cache.ttl-seconds)으로 제거
+ * - 무효화는 트랜잭션 커밋 후에 적용해, 커밋 전 데이터가 다시 캐시되지 않도록 함
+ * - 무효화는 TodoCacheInvalidationChannel로도 전달되어 다른 인스턴스로 확장 가능
+ * - 항목마다 읽을 때의 날짜 버전과 템플릿 버전을 함께 저장해, 호출자가 넘긴 버전보다 오래된 항목은 다시 읽음
+ *   (다른 인스턴스의 변경이나 커밋 직후 무효화 전의 짧은 틈도 TTL을 기다리지 않고 반영)
+ * - 사용자별 템플릿 버전도 캐시해 폴링마다 템플릿 테이블을 읽지 않음
+ *   (사용자 단위 무효화로 지우고, 무효화 메시지를 받지 못한 인스턴스는 TTL 안에 반영)
+ * - 적중/미적중/제거 수는 cache.gets, cache.evictions 등 cache=todo.day 메트릭으로 노출
+ */
+@Component
+public class TodoDayCache {
+
+    private static final String CACHE_NAME = "todo.day";
+    private static final String TEMPLATES_VERSION_CACHE_NAME = "todo.templates-version";
+
+    private record Key(Long userId, LocalDate date) {
+    }
+
+    private record Entry(long version, long templatesVersion, List<TodoResponse> todos) {
+
+        boolean isAtLeast(long version, long templatesVersion) {
+            return this.version >= version && this.templatesVersion >= templatesVersion;
+        }
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final Cache<Long, Long> templatesVersions;
+    private final TodoCacheInvalidationChannel invalidationChannel;
+    private final boolean enabled;
+
+    public TodoDayCache(TodoCacheInvalidationChannel invalidationChannel,
+                        MeterRegistry meterRegistry,
+                        @Value("${todo.cache.enabled:true}") boolean enabled,
+                        @Value("${todo.cache.max-size:10000}") long maxSize,
+                        @Value("${todo.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.invalidationChannel = invalidationChannel;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.templatesVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, templatesVersions, TEMPLATES_VERSION_CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없거나 version, templatesVersion보다 오래된 항목이면 loader로 읽어 저장 (같은 키의 동시 미적중은 한 번만 읽음)
+     * - 두 버전은 loader보다 먼저 읽은 값이어야 함 (읽은 목록이 그 버전 이후의 것임을 보장)
+     */
+    public List<TodoResponse> get(Long userId, LocalDate date, long version, long templatesVersion,
+                                  Supplier<List<TodoResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(userId, date);
+        Entry entry = cache.get(key, k -> new Entry(version, templatesVersion, List.copyOf(loader.get())));
+        if (entry.isAtLeast(version, templatesVersion)) {
+            return entry.todos();
+        }
+
+        Entry reloaded = new Entry(version, templatesVersion, List.copyOf(loader.get()));
+        cache.asMap().merge(key, reloaded, (current, loaded) ->
+                current.isAtLeast(loaded.version(), loaded.templatesVersion()) ? current : loaded);
+        return reloaded.todos();
+    }
+
+    /**
+     * 사용자 템플릿 버전 (캐시에 없으면 loader로 읽어 저장)
+     */
+    public long getTemplatesVersion(Long userId, Supplier<Long> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return templatesVersions.get(userId, k -> loader.get());
+    }
+
+    public void evictDay(Long userId, LocalDate date) {
+        evict(TodoCacheInvalidation.day(userId, date));
+    }
+
+    /**
+     * 사용자의 모든 날짜와 템플릿 버전을 무효화 (템플릿을 만들거나 끝낼 때도 사용)
+     */
+    public void evictUser(Long userId) {
+        evict(TodoCacheInvalidation.user(userId));
+    }
+
+    public void evictDaysBefore(LocalDate date) {
+        evict(TodoCacheInvalidation.daysBefore(date));
+    }
+
+    /**
+     * 이 인스턴스의 캐시에만 무효화를 적용 (다른 인스턴스에서 받은 메시지 처리용)
+     */
+    public void applyLocally(TodoCacheInvalidation invalidation) {
+        if (invalidation.userId() != null && invalidation.date() != null) {
+            cache.invalidate(new Key(invalidation.userId(), invalidation.date()));
+            return;
+        }
+        if (invalidation.userId() != null) {
+            templatesVersions.invalidate(invalidation.userId());
+        }
+        cache.asMap().keySet().removeIf(key -> invalidation.matches(key.userId(), key.date()));
+    }
+
+    private void evict(TodoCacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndPublish(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndPublish(invalidation);
+            }
+        });
+    }
+
+    private void applyAndPublish(TodoCacheInvalidation invalidation) {
+        applyLocally(invalidation);
+        invalidationChannel.publish(invalidation);
+    }
+}
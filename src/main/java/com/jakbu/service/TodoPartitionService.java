@@ -0,0 +1,135 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * todos를 date 기준 월 단위 RANGE 파티션으로 관리 (MySQL 전용, todo.partitioning.enabled=true일 때만)
+ * - 파티션 이름 pYYYYMM은 그 달의 Todo를, p_future는 아직 만들지 않은 달 이후를 담음
+ * - 날짜 조건이 있는 조회는 해당 달 파티션만 읽고, 오래된 달은 파티션 단위로 정리할 수 있음
+ * - MySQL은 파티션 테이블에 외래 키를 둘 수 없고 모든 유니크 키에 파티션 열이 있어야 하므로,
+ *   전환 시 todos의 외래 키를 지우고 기본 키를 (id, date)로 바꿈
+ */
+@Component
+@ConditionalOnProperty(name = "todo.partitioning.enabled", havingValue = "true")
+public class TodoPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoPartitionService.class);
+    private static final String LEASE_NAME = "todo-partition-maintenance";
+    private static final Duration LEASE_TIME = Duration.ofHours(2);
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final int monthsAhead;
+
+    public TodoPartitionService(JdbcTemplate jdbcTemplate,
+                                SchedulerLeaseService schedulerLeaseService,
+                                @Value("${todo.partitioning.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * 시작 시 todos가 파티션 테이블이 아니면 전환하고, 앞으로 쓸 달의 파티션을 미리 만듭니다.
+     * 전환은 테이블을 다시 쓰는 작업이므로 점검 시간에 처음 활성화하는 것을 권장합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            if (!isPartitioned()) {
+                partition();
+            }
+            addFuturePartitions();
+        });
+    }
+
+    /**
+     * 매일 새벽 months-ahead개월 뒤까지 파티션이 있는지 확인합니다. (이미 있으면 아무것도 하지 않음)
+     */
+    @Scheduled(cron = "${todo.partitioning.maintain-cron:0 45 4 * * *}")
+    public void maintain() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            if (isPartitioned()) {
+                addFuturePartitions();
+            }
+        });
+    }
+
+    private boolean isPartitioned() {
+        Integer partitions = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = 'todos' AND partition_name IS NOT NULL", Integer.class);
+        return partitions != null && partitions > 0;
+    }
+
+    /**
+     * 가장 오래된 Todo의 달부터 months-ahead개월 뒤까지 월 파티션을 만들어 todos를 전환
+     */
+    private void partition() {
+        List<String> foreignKeys = jdbcTemplate.queryForList("SELECT constraint_name FROM information_schema.table_constraints " +
+                "WHERE table_schema = DATABASE() AND table_name = 'todos' AND constraint_type = 'FOREIGN KEY'", String.class);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE todos DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+
+        LocalDate minDate = jdbcTemplate.queryForObject("SELECT MIN(date) FROM todos", LocalDate.class);
+        YearMonth current = YearMonth.now();
+        YearMonth first = minDate != null && YearMonth.from(minDate).isBefore(current) ? YearMonth.from(minDate) : current;
+
+        long startedAt = System.nanoTime();
+        jdbcTemplate.execute("ALTER TABLE todos DROP PRIMARY KEY, ADD PRIMARY KEY (id, date) " +
+                "PARTITION BY RANGE COLUMNS(date) (" + monthPartitions(first, current.plusMonths(monthsAhead)) +
+                ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        logger.info("Partitioned todos by month from {} in {} ms (dropped foreign keys {})",
+                first, Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), foreignKeys);
+    }
+
+    /**
+     * 비어 있는 p_future를 나눠 months-ahead개월 뒤까지 월 파티션을 추가 (p_future의 행만 옮기므로 빠름)
+     */
+    private void addFuturePartitions() {
+        List<String> names = jdbcTemplate.queryForList("SELECT partition_name FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = 'todos' AND partition_name <> ?", String.class,
+                FUTURE_PARTITION);
+        YearMonth last = names.stream()
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(YearMonth.now().minusMonths(1));
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+        if (!last.isBefore(target)) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE todos REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                monthPartitions(last.plusMonths(1), target) +
+                ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        logger.info("Added todos partitions {} to {}", last.plusMonths(1), target);
+    }
+
+    private static String monthPartitions(YearMonth from, YearMonth to) {
+        StringBuilder sql = new StringBuilder();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (!sql.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("')");
+        }
+        return sql.toString();
+    }
+}
@@ -1,100 +1,386 @@
 package com.jakbu.service;
 
 import com.jakbu.domain.Todo;
+import com.jakbu.domain.TodoTemplate;
 import com.jakbu.domain.User;
 import com.jakbu.domain.enums.TodoStatus;
+import com.jakbu.dto.TemplateOccurrence;
 import com.jakbu.dto.TodoRequest;
 import com.jakbu.dto.TodoResponse;
 import com.jakbu.dto.TodoStatusUpdateRequest;
+import com.jakbu.dto.TodoUpdateItem;
 import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTemplateRepository;
+import com.jakbu.repository.TodoTemplateSkipRepository;
 import com.jakbu.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class TodoService {
 
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final UserDaySummaryService userDaySummaryService;
+    private final TodoDayCache todoDayCache;
+    private final TodoChangeService todoChangeService;
+    private final TodoTemplateRepository todoTemplateRepository;
+    private final TodoTemplateSkipRepository todoTemplateSkipRepository;
+    private final TodoCalendarService todoCalendarService;
+    private final TodoStatsService todoStatsService;
 
-    public TodoService(TodoRepository todoRepository, UserRepository userRepository) {
+    public TodoService(TodoRepository todoRepository,
+                       UserRepository userRepository,
+                       UserDaySummaryService userDaySummaryService,
+                       TodoDayCache todoDayCache,
+                       TodoChangeService todoChangeService,
+                       TodoTemplateRepository todoTemplateRepository,
+                       TodoTemplateSkipRepository todoTemplateSkipRepository,
+                       TodoCalendarService todoCalendarService,
+                       TodoStatsService todoStatsService) {
         this.todoRepository = todoRepository;
         this.userRepository = userRepository;
+        this.userDaySummaryService = userDaySummaryService;
+        this.todoDayCache = todoDayCache;
+        this.todoChangeService = todoChangeService;
+        this.todoTemplateRepository = todoTemplateRepository;
+        this.todoTemplateSkipRepository = todoTemplateSkipRepository;
+        this.todoCalendarService = todoCalendarService;
+        this.todoStatsService = todoStatsService;
     }
 
+    // 잠금 순서를 맞추기 위해 변경 메서드는 Todo 행을 잠그기 전에 변경 번호(사용자 커서 행)를 먼저 발급
+
     public TodoResponse createTodo(Long userId, TodoRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // 외래 키만 필요하므로 사용자 행을 읽지 않고 참조만 사용 (변경 번호 발급 전에 존재 여부를 확인)
+        User user = userRepository.getActiveReference(userId);
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
 
         Todo todo = new Todo(user, request.title(), request.date());
+        todo.markChanged(changeSeq);
         todo = todoRepository.save(todo);
+        recordDayChange(userId, todo.getDate(), 1, 0);
 
-        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus());
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus(), todo.getTemplateId());
     }
 
-    @Transactional(readOnly = true)
-    public List<TodoResponse> getTodayTodos(Long userId) {
-        return getTodosByDate(userId, LocalDate.now());
-    }
+    /**
+     * 여러 Todo를 한 트랜잭션에서 생성
+     * - 사용자 행은 존재 여부만 확인하고, INSERT는 hibernate.jdbc.batch_size 단위 JDBC 배치로 전송
+     * - 요약은 날짜별로 모아 한 번씩만 갱신
+     */
+    public List<TodoResponse> createTodos(Long userId, List<TodoRequest> requests) {
+        User user = userRepository.getActiveReference(userId);
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+
+        List<Todo> todos = requests.stream()
+                .map(request -> new Todo(user, request.title(), request.date()))
+                .collect(Collectors.toList());
+        todos.forEach(todo -> todo.markChanged(changeSeq));
+        todos = todoRepository.saveAll(todos);
+
+        Map<LocalDate, Integer> totalDeltas = new HashMap<>();
+        todos.forEach(todo -> totalDeltas.merge(todo.getDate(), 1, Integer::sum));
+        totalDeltas.forEach((date, delta) -> {
+            recordDayChange(userId, date, delta, 0);
+        });
 
-    @Transactional(readOnly = true)
-    public List<TodoResponse> getTodosByDate(Long userId, LocalDate date) {
-        List<Todo> todos = todoRepository.findByUserIdAndDate(userId, date);
         return todos.stream()
-                .map(todo -> new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus()))
+                .map(todo -> new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus(), todo.getTemplateId()))
                 .collect(Collectors.toList());
     }
 
-    public TodoResponse markTodoDone(Long userId, Long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new RuntimeException("Todo not found"));
+    /**
+     * 여러 Todo의 제목/완료 여부를 한 트랜잭션에서 수정
+     * - 변경 번호를 발급한 뒤 소유한 행을 IN 조회 1회로 잠가 읽고, 변경 감지된 UPDATE는 커밋 시 JDBC 배치로 전송
+     * - 잠근 행으로 이전 상태를 판단하므로 동시 토글이나 다른 기기의 일괄 수정을 덮어쓰거나 요약에 두 번 반영하지 않음
+     * - 하나라도 없거나 다른 사용자의 Todo면 전체를 반영하지 않음
+     */
+    public List<TodoResponse> updateTodos(Long userId, List<TodoUpdateItem> items) {
+        List<Long> ids = items.stream().map(TodoUpdateItem::id).distinct().collect(Collectors.toList());
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+        Map<Long, Todo> todosById = todoRepository.findAllOwnedForUpdate(ids, userId).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, Integer> doneDeltas = new HashMap<>();
+        Map<LocalDate, Integer> onTimeDeltas = new HashMap<>();
+        Set<LocalDate> changedDates = new HashSet<>();
+        for (TodoUpdateItem item : items) {
+            Todo todo = todosById.get(item.id());
+            if (todo == null) {
+                throw notFoundOrUnauthorized(item.id());
+            }
 
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Unauthorized");
+            changedDates.add(todo.getDate());
+            if (item.title() != null) {
+                todo.updateTitle(item.title());
+            }
+            if (item.done() != null) {
+                boolean wasDone = todo.getStatusOn(today) == TodoStatus.DONE;
+                boolean wasOnTime = todo.isCompletedOnTime();
+                todo.setDone(item.done());
+                boolean isDone = todo.getStatusOn(today) == TodoStatus.DONE;
+                doneDeltas.merge(todo.getDate(), doneDelta(wasDone, isDone), Integer::sum);
+                onTimeDeltas.merge(todo.getDate(), doneDelta(wasOnTime, todo.isCompletedOnTime()), Integer::sum);
+            }
         }
+        todosById.values().forEach(todo -> todo.markChanged(changeSeq));
 
-        // 상태 토글: TODO -> DONE, DONE -> TODO
-        todo.toggleStatus();
-        todo = todoRepository.save(todo);
+        changedDates.forEach(date -> {
+            recordDayChange(userId, date, 0, doneDeltas.getOrDefault(date, 0), 0, onTimeDeltas.getOrDefault(date, 0));
+        });
 
-        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus());
+        return ids.stream()
+                .map(todosById::get)
+                .map(todo -> new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatusOn(today), todo.getTemplateId()))
+                .collect(Collectors.toList());
     }
 
-    public TodoResponse updateTodoStatus(Long userId, Long todoId, TodoStatusUpdateRequest request) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new RuntimeException("Todo not found"));
+    /**
+     * 날짜별 목록의 버전 (목록을 읽지 않고 요약 테이블 기본키 조회만 함)
+     */
+    @Transactional(readOnly = true)
+    public long getTodosVersion(Long userId, LocalDate date) {
+        return userDaySummaryService.getVersion(userId, date);
+    }
+
+    /**
+     * 사용자 반복 템플릿의 버전 (템플릿을 만들거나 끝내면 날짜별 목록에 펼쳐지는 항목이 바뀜)
+     * - 캐시 적중 시 DB 커넥션을 쓰지 않음, 템플릿이 바뀌면 TodoTemplateService가 사용자 캐시를 무효화
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getTemplatesVersion(Long userId) {
+        return todoDayCache.getTemplatesVersion(userId, () -> todoTemplateRepository.findMaxVersion(userId));
+    }
 
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Unauthorized");
+    /**
+     * 캐시 적중 시 DB 커넥션을 쓰지 않도록 트랜잭션 없이 실행하고, 미적중 시 조회 쿼리만 읽기 전용 트랜잭션으로 실행
+     * - version(getTodosVersion), templatesVersion(getTemplatesVersion)보다 오래된 캐시 항목은 다시 읽음
+     * - 저장된 Todo 뒤에 아직 저장되지 않은 반복 템플릿 항목을 펼쳐 붙인 목록을 캐시
+     *   (항목 저장과 건너뛰기는 날짜 버전을, 템플릿 생성과 종료는 템플릿 버전을 올림)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TodoResponse> getTodosByDate(Long userId, LocalDate date, long version, long templatesVersion) {
+        return todoDayCache.get(userId, date, version, templatesVersion, () -> loadTodosByDate(userId, date));
+    }
+
+    private List<TodoResponse> loadTodosByDate(Long userId, LocalDate date) {
+        List<TodoResponse> todos = new ArrayList<>(todoRepository.findResponsesByUserIdAndDate(userId, date, LocalDate.now()));
+        todoTemplateRepository.findPendingOn(userId, date, date.getDayOfWeek().getValue())
+                .forEach(template -> todos.add(TodoResponse.occurrence(template.getId(), template.getTitle(), date)));
+        return todos;
+    }
+
+    /**
+     * 반복 템플릿의 date 항목을 Todo 행으로 저장 (이미 저장되어 있으면 그 행을 반환)
+     * - 완료하거나 수정하기 전까지는 행을 만들지 않으므로, 클라이언트는 저장 후 받은 id로 기존 API를 사용
+     * - 변경 번호(사용자 커서 행 잠금)를 먼저 발급하므로 같은 사용자의 동시 저장은 직렬화되어 한 행만 생김
+     * - 건너뛴 날짜였다면 건너뜀을 취소 (지난 날짜 통계는 건너뛰지 않은 항목을 이미 미완료로 세었으므로 그대로)
+     */
+    public TodoResponse materializeOccurrence(Long userId, TodoTemplate template, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+        Optional<TodoResponse> existing = todoRepository.findResponseByTemplateIdAndDate(template.getId(), date, today);
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
-        todo.setDone(request.done());
+        boolean unskipped = todoTemplateSkipRepository.deleteByTemplateIdAndDate(template.getId(), date) > 0;
+        Todo todo = new Todo(userRepository.getReferenceById(userId), template.getTitle(), date, template.getId());
+        todo.markChanged(changeSeq);
         todo = todoRepository.save(todo);
+        recordDayChange(userId, date, 1, 0, unskipped ? 1 : 0, 0);
 
-        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus());
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatus(), todo.getTemplateId());
     }
 
-    public void deleteTodo(Long userId, Long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new RuntimeException("Todo not found"));
+    /**
+     * 기간 내 Todo를 날짜, ID 순으로 하나씩 넘김 (목록을 만들지 않으므로 기간이 길어도 메모리 사용이 일정)
+     * - getTodosByDate와 같은 목록이 되도록 날짜마다 저장된 Todo 뒤에 아직 저장되지 않은 반복 템플릿 항목을 붙임
+     *   (템플릿과 건너뛴 날짜는 기간 전체를 한 번씩 읽고, 저장된 항목은 스트림에서 확인)
+     */
+    @Transactional(readOnly = true)
+    public void forEachTodoInRange(Long userId, LocalDate from, LocalDate to, Consumer<TodoResponse> action) {
+        List<TodoTemplate> templates = todoTemplateRepository.findOverlapping(userId, from, to);
+        Set<TemplateOccurrence> taken = templates.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(todoTemplateSkipRepository.findOccurrencesByUserId(userId, from, to));
 
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Unauthorized");
+        LocalDate pendingDate = from;
+        try (Stream<TodoResponse> todos = todoRepository.streamByUserIdAndDateBetween(userId, from, to, LocalDate.now())) {
+            Iterator<TodoResponse> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                TodoResponse todo = iterator.next();
+                for (; pendingDate.isBefore(todo.date()); pendingDate = pendingDate.plusDays(1)) {
+                    acceptPending(templates, taken, pendingDate, action);
+                }
+                if (todo.templateId() != null) {
+                    taken.add(new TemplateOccurrence(todo.templateId(), todo.date()));
+                }
+                action.accept(todo);
+            }
+        }
+        for (; !pendingDate.isAfter(to); pendingDate = pendingDate.plusDays(1)) {
+            acceptPending(templates, taken, pendingDate, action);
         }
+    }
 
-        todoRepository.delete(todo);
+    private static void acceptPending(List<TodoTemplate> templates, Set<TemplateOccurrence> taken,
+                                      LocalDate date, Consumer<TodoResponse> action) {
+        for (TodoTemplate template : templates) {
+            if (template.occursOn(date) && !taken.contains(new TemplateOccurrence(template.getId(), date))) {
+                action.accept(TodoResponse.occurrence(template.getId(), template.getTitle(), date));
+            }
+        }
+    }
+
+    /**
+     * 상태 토글: TODO -> DONE, DONE -> TODO (오늘 기준 상태를 뒤집음)
+     * - 소유자 조건을 건 UPDATE 한 번으로 원자적으로 뒤집으므로 동시 요청에도 토글이 유실되지 않음
+     */
+    public TodoResponse markTodoDone(Long userId, Long todoId) {
+        LocalDate today = LocalDate.now();
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+        boolean wasOnTime = todoRepository.isCompletedOnTime(todoId, userId);
+        if (todoRepository.toggleStatus(todoId, userId, today, LocalDateTime.now(), changeSeq) == 0) {
+            throw notFoundOrUnauthorized(todoId);
+        }
+
+        TodoResponse todo = findOwnedTodo(userId, todoId, today);
+        recordDayChange(userId, todo.date(), 0, todo.status() == TodoStatus.DONE ? 1 : -1, 0, wasOnTime ? -1 : 0);
+        return todo;
+    }
+
+    /**
+     * 상태가 실제로 바뀔 때만 UPDATE되도록 조건을 걸어, 변경 행 수로 요약 증감 여부를 판단
+     */
+    public TodoResponse updateTodoStatus(Long userId, Long todoId, TodoStatusUpdateRequest request) {
+        LocalDate today = LocalDate.now();
+        TodoStatus status = request.done() ? TodoStatus.DONE : TodoStatus.TODO;
+        LocalDateTime completedAt = request.done() ? LocalDateTime.now() : null;
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+        boolean wasOnTime = todoRepository.isCompletedOnTime(todoId, userId);
+        boolean changed = todoRepository.updateStatus(todoId, userId, status, completedAt, today, changeSeq) > 0;
+
+        TodoResponse todo = findOwnedTodo(userId, todoId, today);
+        if (changed) {
+            recordDayChange(userId, todo.date(), 0, request.done() ? 1 : -1, 0, wasOnTime ? -1 : 0);
+        }
+        return todo;
+    }
+
+    /**
+     * 읽은 상태를 조건으로 DELETE해 그 사이 상태가 바뀌었으면 다시 읽음 (요약의 완료 수를 정확히 빼기 위해)
+     */
+    public void deleteTodo(Long userId, Long todoId) {
+        LocalDate today = LocalDate.now();
+        long changeSeq = todoChangeService.nextChangeSeq(userId);
+        boolean wasOnTime = todoRepository.isCompletedOnTime(todoId, userId);
+        for (int attempt = 0; attempt < MAX_DELETE_ATTEMPTS; attempt++) {
+            TodoResponse todo = findOwnedTodo(userId, todoId, today);
+            if (todoRepository.deleteOwned(todoId, userId, todo.status(), today) > 0) {
+                todoChangeService.recordDeletion(userId, todoId, changeSeq);
+                if (todo.templateId() != null) {
+                    // 반복 템플릿 항목이면 같은 날짜에 다시 펼쳐지지 않도록 건너뛴 날짜로 남김
+                    todoTemplateSkipRepository.insertIgnore(todo.templateId(), todo.date(), userId);
+                }
+                recordDayChange(userId, todo.date(), -1, todo.status() == TodoStatus.DONE ? -1 : 0, -1, wasOnTime ? -1 : 0);
+                return;
+            }
+        }
+        throw new RuntimeException("Todo was modified concurrently");
     }
 
     /**
      * 자정에 이전 날짜의 완료 상태를 초기화 (DONE -> TODO)
+     * - todos는 바꾸지 않음: 날짜가 지난 완료는 조회 시 TODO로 계산됨 (Todo.getStatusOn)
+     * - 날짜별 요약의 완료 수와 버전(ETag), 캐시만 날짜 경계에 맞춤 (요약은 구간별 트랜잭션으로 나눠 다시 계산)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int resetDoneStatusBefore(LocalDate today) {
-        return todoRepository.resetDoneBeforeDate(today, TodoStatus.DONE, TodoStatus.TODO);
+        int reset = userDaySummaryService.resetDoneBefore(today);
+        todoDayCache.evictDaysBefore(today);
+        return reset;
+    }
+
+    /**
+     * 시작 시 중단된(또는 놓친) 자정 초기화만 이어서 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int resumeDoneStatusReset(LocalDate today) {
+        int reset = userDaySummaryService.resumeResetBefore(today);
+        if (reset > 0) {
+            todoDayCache.evictDaysBefore(today);
+        }
+        return reset;
+    }
+
+    /**
+     * 완료 시각이 없는 기존 DONE 행을 지금 완료한 것으로 채움 (배포 직후 한 번)
+     */
+    public int backfillCompletedAt() {
+        return todoRepository.backfillCompletedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 완료 상태와 무관한 변경(생성): 지난 날짜 통계에도 개수만 같이 더함
+     */
+    private void recordDayChange(Long userId, LocalDate date, int totalDelta, int doneDelta) {
+        recordDayChange(userId, date, totalDelta, doneDelta, totalDelta, 0);
+    }
+
+    /**
+     * 날짜 하나의 Todo가 바뀐 뒤 호출: 요약 개수, 달력 비트, 날짜별 캐시를 함께 맞춤
+     * - 지난 날짜면 통계(주/월 개수, 연속 달성)에도 바로 반영: statsDoneDelta는 그날까지 완료한 Todo 수의 변화
+     *   (지난 날짜를 지금 완료해도 늘지 않고, 그날까지 완료했던 Todo를 삭제하거나 다시 완료하면 줄어듦)
+     */
+    private void recordDayChange(Long userId, LocalDate date, int totalDelta, int doneDelta,
+                                 int statsTotalDelta, int statsDoneDelta) {
+        userDaySummaryService.recordChange(userId, date, totalDelta, doneDelta);
+        if (date.isBefore(LocalDate.now())) {
+            todoStatsService.recordPastDayChange(userId, date, statsTotalDelta, statsDoneDelta);
+        }
+        todoCalendarService.recordChange(userId, date);
+        todoDayCache.evictDay(userId, date);
+    }
+
+    private TodoResponse findOwnedTodo(Long userId, Long todoId, LocalDate today) {
+        return todoRepository.findResponseByIdAndUserId(todoId, userId, today)
+                .orElseThrow(() -> notFoundOrUnauthorized(todoId));
+    }
+
+    /**
+     * 소유자 조건에 걸린 경우에만 존재 여부를 한 번 더 확인해 "없음"과 "권한 없음"을 구분
+     */
+    private RuntimeException notFoundOrUnauthorized(Long todoId) {
+        if (todoRepository.existsById(todoId)) {
+            return new RuntimeException("Unauthorized");
+        }
+        return new RuntimeException("Todo not found");
+    }
+
+    private static int doneDelta(boolean wasDone, boolean isDone) {
+        return (isDone ? 1 : 0) - (wasDone ? 1 : 0);
     }
 }
 
@@ -0,0 +1,59 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class TodoStatsScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoStatsScheduler.class);
+    private static final String LEASE_NAME = "todo-stats-rebuild";
+    private static final Duration LEASE_TIME = Duration.ofHours(1);
+
+    private final TodoStatsService todoStatsService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public TodoStatsScheduler(TodoStatsService todoStatsService, SchedulerLeaseService schedulerLeaseService) {
+        this.todoStatsService = todoStatsService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 초기 구축을 끝낸 기록이 없으면(최초 배포 또는 구축 중단) todos로부터 어제까지의 통계를 만듭니다.
+     * 이후에는 자정 초기화가 하루씩 반영합니다.
+     * 시작 시 자정 초기화 이어하기(DailyTodoResetScheduler)보다 먼저 실행되어, 구축으로 반영된 어제를 다시 더하지 않게 합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfMissing() {
+        if (todoStatsService.isBuilt()) {
+            return;
+        }
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int chunks = todoStatsService.rebuild();
+            logger.info("Built todo stats in {} chunks", chunks);
+        });
+    }
+
+    /**
+     * 매일 새벽 어제가 속한 주/월 통계를 todos와 비교해 어긋난 구간만 다시 계산합니다.
+     * 지난 날짜 변경은 변경 시점에 반영되므로 누락을 확인하는 검사이며, 읽는 범위는 한 달 남짓으로 고정됩니다.
+     */
+    @Scheduled(cron = "${todo.stats.verify-cron:0 20 4 * * *}")
+    public void verifyStats() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int repaired = todoStatsService.verifyAndRepair();
+            if (repaired > 0) {
+                logger.info("Repaired {} todo stats chunks", repaired);
+            }
+        });
+    }
+}
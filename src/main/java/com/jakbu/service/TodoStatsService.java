@@ -0,0 +1,463 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.JobCheckpoint;
+import com.jakbu.domain.TodoTemplate;
+import com.jakbu.domain.UserDaySummary;
+import com.jakbu.domain.UserDaySummaryId;
+import com.jakbu.domain.UserPeriodStats;
+import com.jakbu.domain.UserPeriodStatsId;
+import com.jakbu.domain.UserStreak;
+import com.jakbu.domain.enums.StatsPeriod;
+import com.jakbu.dto.DayCompletion;
+import com.jakbu.dto.TemplateOccurrence;
+import com.jakbu.dto.TodoStatsResponse;
+import com.jakbu.repository.ArchivedTodoRepository;
+import com.jakbu.repository.JobCheckpointRepository;
+import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTemplateRepository;
+import com.jakbu.repository.TodoTemplateSkipRepository;
+import com.jakbu.repository.UserDaySummaryRepository;
+import com.jakbu.repository.UserPeriodStatsRepository;
+import com.jakbu.repository.UserRepository;
+import com.jakbu.repository.UserStreakRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 연속 달성/완료율 통계
+ * - 지난 날짜는 자정 초기화가 요약(user_day_summary)의 완료 수를 다시 계산하기 전에 user_streaks, user_period_stats에 반영
+ * - 이미 반영한 지난 날짜의 변경은 Todo 변경 트랜잭션에서 recordPastDayChange로 바로 반영
+ * - 완료 수는 그날까지 완료한 Todo 기준 (지난 날짜를 나중에 완료해도 그날의 달성으로 세지 않음)
+ * - 오늘 분은 Todo 변경마다 갱신되는 오늘 요약 행에서 조회 시 더함
+ * - 저장되지 않은 반복 템플릿 항목은 미완료 Todo 하나로 셈 (목록 조회에 TODO로 보이는 것과 같게)
+ * - 조회는 사용자당 고정된 몇 행만 읽으므로 기록 기간과 무관
+ */
+@Service
+@Transactional
+public class TodoStatsService {
+
+    private static final String BUILD_JOB_NAME = "todo-stats-build";
+    private static final String BUILD_RUN_KEY = "initial";
+
+    private final UserStreakRepository userStreakRepository;
+    private final UserPeriodStatsRepository userPeriodStatsRepository;
+    private final UserDaySummaryRepository userDaySummaryRepository;
+    private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final TodoTemplateRepository todoTemplateRepository;
+    private final TodoTemplateSkipRepository todoTemplateSkipRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TodoArchiveService todoArchiveService;
+    private final int rebuildChunkSize;
+
+    public TodoStatsService(UserStreakRepository userStreakRepository,
+                            UserPeriodStatsRepository userPeriodStatsRepository,
+                            UserDaySummaryRepository userDaySummaryRepository,
+                            TodoRepository todoRepository,
+                            ArchivedTodoRepository archivedTodoRepository,
+                            TodoTemplateRepository todoTemplateRepository,
+                            TodoTemplateSkipRepository todoTemplateSkipRepository,
+                            UserRepository userRepository,
+                            JobCheckpointRepository jobCheckpointRepository,
+                            TodoArchiveService todoArchiveService,
+                            @Value("${todo.stats.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.userStreakRepository = userStreakRepository;
+        this.userPeriodStatsRepository = userPeriodStatsRepository;
+        this.userDaySummaryRepository = userDaySummaryRepository;
+        this.todoRepository = todoRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.todoTemplateRepository = todoTemplateRepository;
+        this.todoTemplateSkipRepository = todoTemplateSkipRepository;
+        this.userRepository = userRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.todoArchiveService = todoArchiveService;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoStatsResponse getStats(Long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = weekStart(today);
+        LocalDate monthStart = monthStart(today);
+
+        UserDaySummary todaySummary = userDaySummaryRepository.findById(new UserDaySummaryId(userId, today)).orElse(null);
+        int todayTotal = todaySummary != null ? todaySummary.getTotal() : 0;
+        todayTotal += todoTemplateRepository.findPendingOn(userId, today, today.getDayOfWeek().getValue()).size();
+        int todayDone = todaySummary != null ? todaySummary.getDone() : 0;
+
+        int currentStreak = 0;
+        int longestStreak = 0;
+        UserStreak streak = userStreakRepository.findById(userId).orElse(null);
+        if (streak != null) {
+            longestStreak = streak.getLongestStreak();
+            LocalDate lastActive = streak.getLastActiveDate();
+            if (lastActive != null && !lastActive.isBefore(today.minusDays(1))) {
+                currentStreak = streak.getCurrentStreak();
+            }
+        }
+        if (todayDone > 0) {
+            currentStreak++;
+            longestStreak = Math.max(longestStreak, currentStreak);
+        }
+
+        int weekTotal = todayTotal;
+        int weekDone = todayDone;
+        int monthTotal = todayTotal;
+        int monthDone = todayDone;
+        for (UserPeriodStats stats : userPeriodStatsRepository.findCurrent(userId, weekStart, monthStart)) {
+            if (stats.getPeriodType() == StatsPeriod.WEEK) {
+                weekTotal += stats.getTotal();
+                weekDone += stats.getDone();
+            } else {
+                monthTotal += stats.getTotal();
+                monthDone += stats.getDone();
+            }
+        }
+
+        return new TodoStatsResponse(currentStreak, longestStreak,
+                TodoStatsResponse.PeriodStats.of(weekStart, weekTotal, weekDone),
+                TodoStatsResponse.PeriodStats.of(monthStart, monthTotal, monthDone));
+    }
+
+    /**
+     * 사용자 ID 구간에서 date의 요약을 주/월 개수와 연속 달성 기록에 반영 (한 트랜잭션)
+     * - 저장되지 않은 반복 템플릿 항목은 미완료 Todo로 개수에 더함
+     * - 이미 반영한 사용자는 건너뛰므로 중단 후 다시 실행해도 됨
+     */
+    public void rollOverDay(LocalDate date, long fromUserId, long toUserId) {
+        int dayOfWeek = date.getDayOfWeek().getValue();
+        userPeriodStatsRepository.addDay(fromUserId, toUserId, date, StatsPeriod.WEEK.name(), weekStart(date));
+        userPeriodStatsRepository.addDay(fromUserId, toUserId, date, StatsPeriod.MONTH.name(), monthStart(date));
+        userPeriodStatsRepository.addPendingOccurrences(fromUserId, toUserId, date, dayOfWeek,
+                StatsPeriod.WEEK.name(), weekStart(date));
+        userPeriodStatsRepository.addPendingOccurrences(fromUserId, toUserId, date, dayOfWeek,
+                StatsPeriod.MONTH.name(), monthStart(date));
+        // rolled_date를 올리므로 마지막에 실행
+        userStreakRepository.rollOver(fromUserId, toUserId, date, date.minusDays(1));
+        userStreakRepository.markPendingOnlyRolled(fromUserId, toUserId, date, dayOfWeek);
+    }
+
+    /**
+     * 이미 자정 집계에 반영한 지난 날짜의 변경을 주/월 개수에 더함 (Todo 변경 트랜잭션 안에서)
+     * - 아직 반영하지 않은 날짜(rolled_date 이후)는 자정 집계가 요약을 읽어 반영하므로 건너뜀
+     * - doneDelta는 그날까지 완료한 Todo 수의 변화이며, 바뀌면 이 사용자의 연속 달성 기록을 다시 계산
+     * - 자정 집계와 같은 순서(user_day_summary -> user_period_stats -> user_streaks)로 잠금
+     */
+    public void recordPastDayChange(Long userId, LocalDate date, int totalDelta, int doneDelta) {
+        if (totalDelta == 0 && doneDelta == 0) {
+            return;
+        }
+        LocalDate rolledDate = userStreakRepository.findRolledDate(userId).orElse(null);
+        if (rolledDate == null || date.isAfter(rolledDate)) {
+            return;
+        }
+
+        userPeriodStatsRepository.applyDelta(userId, StatsPeriod.WEEK.name(), weekStart(date), totalDelta, doneDelta);
+        userPeriodStatsRepository.applyDelta(userId, StatsPeriod.MONTH.name(), monthStart(date), totalDelta, doneDelta);
+        if (doneDelta != 0) {
+            recomputeStreak(userId, rolledDate);
+        }
+    }
+
+    /**
+     * 시작일이 지난 날짜인 새 템플릿의 항목 중 이미 집계한 날짜분을 미완료 Todo로 주/월 개수에 더함
+     * - 기간별로 모아 한 번씩 더하므로 시작일이 오래전이어도 쓰기는 기간 수만큼
+     */
+    public void recordPastOccurrences(Long userId, TodoTemplate template) {
+        LocalDate rolledDate = userStreakRepository.findRolledDate(userId).orElse(null);
+        if (rolledDate == null || template.getStartDate().isAfter(rolledDate)) {
+            return;
+        }
+
+        Map<UserPeriodStatsId, UserPeriodStats> periods = new LinkedHashMap<>();
+        for (LocalDate date = template.getStartDate(); !date.isAfter(rolledDate); date = date.plusDays(1)) {
+            if (template.occursOn(date)) {
+                addPeriod(periods, userId, StatsPeriod.WEEK, weekStart(date), 1, 0);
+                addPeriod(periods, userId, StatsPeriod.MONTH, monthStart(date), 1, 0);
+            }
+        }
+        for (UserPeriodStats stats : periods.values()) {
+            userPeriodStatsRepository.applyDelta(userId, stats.getPeriodType().name(), stats.getPeriodStart(),
+                    stats.getTotal(), 0);
+        }
+    }
+
+    /**
+     * 한 사용자의 연속 달성 기록을 rolledDate까지 그날 완료한 Todo가 있는 날짜로 다시 계산
+     * - 지난 날짜의 완료를 잃은 경우(삭제, 다시 완료)에만 호출되므로 드묾
+     */
+    private void recomputeStreak(Long userId, LocalDate rolledDate) {
+        Set<LocalDate> days = new TreeSet<>(todoRepository.findCompletedOnTimeDates(userId, rolledDate));
+        days.addAll(archivedTodoRepository.findCompletedOnTimeDates(userId, rolledDate));
+
+        int current = 0;
+        int longest = 0;
+        LocalDate lastActive = null;
+        for (LocalDate day : days) {
+            current = day.minusDays(1).equals(lastActive) ? current + 1 : 1;
+            longest = Math.max(longest, current);
+            lastActive = day;
+        }
+        userStreakRepository.save(new UserStreak(userId, current, longest, lastActive, rolledDate));
+    }
+
+    /**
+     * 기존 Todo로부터 통계를 만드는 초기 구축을 끝냈는지
+     * - 테이블이 비어 있는지로 판단하면 구축 전에 반영된 자정 초기화가 행을 만들어 구축을 건너뛰게 되므로 완료 기록으로 판단
+     */
+    @Transactional(readOnly = true)
+    public boolean isBuilt() {
+        return jobCheckpointRepository.findById(BUILD_JOB_NAME)
+                .map(JobCheckpoint::isFinished)
+                .orElse(false);
+    }
+
+    /**
+     * todos(보관 포함)로부터 어제까지의 통계를 사용자 ID 구간 단위로 다시 계산 (최초 배포 시 기존 데이터 반영)
+     * - 구간마다 별도 트랜잭션으로 교체하고 진행 위치를 남기므로, 중단되면 다음 시작 시 이어서 처리하고 끝나면 완료로 기록
+     * @return 다시 계산한 구간 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(BUILD_JOB_NAME)
+                .filter(existing -> existing.getRunKey().equals(BUILD_RUN_KEY) && !existing.isFinished())
+                .orElse(null);
+        long start = 1;
+        long target;
+        if (checkpoint != null) {
+            start = checkpoint.getLastPosition() + 1;
+            target = checkpoint.getTargetPosition();
+        } else {
+            target = userRepository.findMaxId();
+            jobCheckpointRepository.start(BUILD_JOB_NAME, BUILD_RUN_KEY, target, LocalDateTime.now());
+        }
+
+        LocalDate today = LocalDate.now();
+        int chunks = 0;
+        for (long from = start; from <= target; from += rebuildChunkSize) {
+            long to = Math.min(from + rebuildChunkSize - 1, target);
+            RangeStats stats = computeRange(from, to, today);
+            userPeriodStatsRepository.replaceRange(from, to, stats.periods());
+            userStreakRepository.replaceRange(from, to, stats.streaks());
+            jobCheckpointRepository.record(BUILD_JOB_NAME, BUILD_RUN_KEY, to, LocalDateTime.now());
+            chunks++;
+        }
+        jobCheckpointRepository.finish(BUILD_JOB_NAME, BUILD_RUN_KEY, LocalDateTime.now());
+        return chunks;
+    }
+
+    /**
+     * 어제가 속한 주/월의 저장된 개수를 todos 기준 계산과 사용자 ID 구간 단위로 비교해 다른 구간만 교체
+     * - 지난 날짜 변경은 recordPastDayChange가 바로 반영하므로 증감 누락만 확인하는 검사이며, 조회 화면에 보이는 기간만 봄
+     * - 읽는 범위가 최대 한 달 남짓이라 기록 기간과 무관하고, 보관된 날짜가 섞인 기간은 건너뜀 (연속 달성 기록은 비교하지 않음)
+     * - 어제까지 반영된 뒤(자정 초기화 이후)에 실행해야 함
+     * @return 교체한 구간 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int verifyAndRepair() {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate weekStart = weekStart(yesterday);
+        LocalDate monthStart = monthStart(yesterday);
+        LocalDate from = weekStart.isBefore(monthStart) ? weekStart : monthStart;
+        if (todoArchiveService.isArchivedDate(from)) {
+            return 0;
+        }
+
+        long maxUserId = userRepository.findMaxId();
+        int repairedChunks = 0;
+        for (long fromUserId = 1; fromUserId <= maxUserId; fromUserId += rebuildChunkSize) {
+            long toUserId = fromUserId + rebuildChunkSize - 1;
+            List<UserPeriodStats> expected = computeRecentPeriods(fromUserId, toUserId, weekStart, monthStart, from, today);
+            List<UserPeriodStats> stored = userPeriodStatsRepository.findRangeOfPeriods(fromUserId, toUserId, weekStart, monthStart);
+            if (periodValues(expected).equals(periodValues(stored))) {
+                continue;
+            }
+
+            userPeriodStatsRepository.replaceRangeOfPeriods(fromUserId, toUserId, weekStart, monthStart, expected);
+            repairedChunks++;
+        }
+        return repairedChunks;
+    }
+
+    /**
+     * 사용자 ID 구간의 weekStart 주, monthStart 월 개수를 from ~ 어제의 todos와 저장되지 않은 반복 템플릿 항목으로 계산
+     */
+    private List<UserPeriodStats> computeRecentPeriods(long fromUserId, long toUserId, LocalDate weekStart,
+                                                       LocalDate monthStart, LocalDate from, LocalDate today) {
+        List<DayCompletion> days = new ArrayList<>(todoRepository.findRecentDayCompletions(fromUserId, toUserId, from, today));
+        List<TodoTemplate> templates = todoTemplateRepository.findByUserIdBetween(fromUserId, toUserId);
+        if (!templates.isEmpty()) {
+            LocalDate yesterday = today.minusDays(1);
+            Set<TemplateOccurrence> taken = new HashSet<>(
+                    todoRepository.findTemplateOccurrencesBetween(fromUserId, toUserId, from, yesterday));
+            taken.addAll(todoTemplateSkipRepository.findOccurrencesBetween(fromUserId, toUserId, from, yesterday));
+            days.addAll(expandPending(templates, taken, from, today));
+        }
+
+        Map<UserPeriodStatsId, UserPeriodStats> periods = new LinkedHashMap<>();
+        for (DayCompletion day : days) {
+            int total = day.total().intValue();
+            int done = day.done().intValue();
+            if (weekStart(day.date()).equals(weekStart)) {
+                addPeriod(periods, day.userId(), StatsPeriod.WEEK, weekStart, total, done);
+            }
+            if (monthStart(day.date()).equals(monthStart)) {
+                addPeriod(periods, day.userId(), StatsPeriod.MONTH, monthStart, total, done);
+            }
+        }
+        return new ArrayList<>(periods.values());
+    }
+
+    /**
+     * 사용자 ID 구간의 어제까지 통계를 todos(보관 포함)와 저장되지 않은 반복 템플릿 항목으로 계산
+     * - 그날까지 완료한 Todo가 있는 날을 달성한 날로 봄
+     */
+    private RangeStats computeRange(long fromUserId, long toUserId, LocalDate today) {
+        List<UserStreak> streaks = new ArrayList<>();
+        Map<UserPeriodStatsId, UserPeriodStats> periods = new LinkedHashMap<>();
+
+        Long userId = null;
+        int current = 0;
+        int longest = 0;
+        LocalDate lastActive = null;
+        for (DayCompletion day : findDayCompletions(fromUserId, toUserId, today)) {
+            if (!day.userId().equals(userId)) {
+                if (userId != null) {
+                    streaks.add(new UserStreak(userId, current, longest, lastActive, today.minusDays(1)));
+                }
+                userId = day.userId();
+                current = 0;
+                longest = 0;
+                lastActive = null;
+            }
+
+            int total = day.total().intValue();
+            int done = day.done().intValue();
+            addPeriod(periods, userId, StatsPeriod.WEEK, weekStart(day.date()), total, done);
+            addPeriod(periods, userId, StatsPeriod.MONTH, monthStart(day.date()), total, done);
+            if (done > 0) {
+                current = day.date().minusDays(1).equals(lastActive) ? current + 1 : 1;
+                longest = Math.max(longest, current);
+                lastActive = day.date();
+            }
+        }
+        if (userId != null) {
+            streaks.add(new UserStreak(userId, current, longest, lastActive, today.minusDays(1)));
+        }
+        return new RangeStats(new ArrayList<>(periods.values()), streaks);
+    }
+
+    /**
+     * todos, todos_archive의 날짜별 집계와 저장되지 않은 반복 템플릿 항목을 (사용자, 날짜) 순으로 합침
+     * - 보관 도중인 날짜는 두 테이블에 나뉘어 있을 수 있어 같은 날짜를 더함
+     */
+    private List<DayCompletion> findDayCompletions(long fromUserId, long toUserId, LocalDate today) {
+        List<DayCompletion> days = new ArrayList<>(archivedTodoRepository.findDayCompletions(fromUserId, toUserId, today));
+        days.addAll(findPendingOccurrences(fromUserId, toUserId, today));
+        if (days.isEmpty()) {
+            return todoRepository.findDayCompletions(fromUserId, toUserId, today);
+        }
+        days.addAll(todoRepository.findDayCompletions(fromUserId, toUserId, today));
+        days.sort(Comparator.comparing(DayCompletion::userId).thenComparing(DayCompletion::date));
+
+        List<DayCompletion> merged = new ArrayList<>(days.size());
+        for (DayCompletion day : days) {
+            DayCompletion last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last.userId().equals(day.userId()) && last.date().equals(day.date())) {
+                merged.set(merged.size() - 1, new DayCompletion(day.userId(), day.date(),
+                        last.total() + day.total(), last.done() + day.done()));
+            } else {
+                merged.add(day);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 어제까지 반복 템플릿이 있었지만 저장되지도 건너뛰지도 않은 날짜 (미완료 Todo 하나로 셈)
+     */
+    private List<DayCompletion> findPendingOccurrences(long fromUserId, long toUserId, LocalDate today) {
+        List<TodoTemplate> templates = todoTemplateRepository.findByUserIdBetween(fromUserId, toUserId);
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+        Set<TemplateOccurrence> taken = new HashSet<>(todoRepository.findTemplateOccurrences(fromUserId, toUserId));
+        taken.addAll(archivedTodoRepository.findTemplateOccurrences(fromUserId, toUserId));
+        taken.addAll(todoTemplateSkipRepository.findOccurrences(fromUserId, toUserId));
+        return expandPending(templates, taken, LocalDate.MIN, today);
+    }
+
+    /**
+     * from ~ 어제 중 템플릿이 반복되지만 taken에 없는 날짜를 미완료 Todo 하나씩으로 펼침
+     */
+    private static List<DayCompletion> expandPending(List<TodoTemplate> templates, Set<TemplateOccurrence> taken,
+                                                     LocalDate from, LocalDate today) {
+        List<DayCompletion> pending = new ArrayList<>();
+        for (TodoTemplate template : templates) {
+            LocalDate first = template.getStartDate().isBefore(from) ? from : template.getStartDate();
+            LocalDate last = today.minusDays(1);
+            if (template.getEndDate() != null && template.getEndDate().isBefore(last)) {
+                last = template.getEndDate();
+            }
+            for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+                if (template.occursOn(date) && !taken.contains(new TemplateOccurrence(template.getId(), date))) {
+                    pending.add(new DayCompletion(template.getUser().getId(), date, 1L, 0L));
+                }
+            }
+        }
+        return pending;
+    }
+
+    public void deleteByUserId(Long userId) {
+        userStreakRepository.deleteByUserId(userId);
+        userPeriodStatsRepository.deleteByUserId(userId);
+    }
+
+    private static void addPeriod(Map<UserPeriodStatsId, UserPeriodStats> periods, Long userId,
+                                  StatsPeriod periodType, LocalDate periodStart, int total, int done) {
+        periods.computeIfAbsent(new UserPeriodStatsId(userId, periodType, periodStart),
+                        id -> new UserPeriodStats(userId, periodType, periodStart, 0, 0))
+                .add(total, done);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private static LocalDate monthStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    /**
+     * 비교용 기간 행 값 (개수가 0인 행은 행이 없는 것과 같게 봄)
+     */
+    private static Set<List<Object>> periodValues(List<UserPeriodStats> periods) {
+        Set<List<Object>> values = new HashSet<>();
+        for (UserPeriodStats stats : periods) {
+            if (stats.getTotal() != 0 || stats.getDone() != 0) {
+                values.add(List.of(stats.getUserId(), stats.getPeriodType(), stats.getPeriodStart(),
+                        stats.getTotal(), stats.getDone()));
+            }
+        }
+        return values;
+    }
+
+    private record RangeStats(List<UserPeriodStats> periods, List<UserStreak> streaks) {
+    }
+}
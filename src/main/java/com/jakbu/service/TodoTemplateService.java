@@ -0,0 +1,152 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.TodoTemplate;
+import com.jakbu.dto.TodoResponse;
+import com.jakbu.dto.TodoTemplateRequest;
+import com.jakbu.dto.TodoTemplateResponse;
+import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTemplateRepository;
+import com.jakbu.repository.TodoTemplateSkipRepository;
+import com.jakbu.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 반복 Todo 템플릿 관리
+ * - 날짜별 항목은 TodoService.getTodosByDate가 조회 시점에 펼침
+ * - 완료하거나 수정할 항목만 materializeOccurrence로 Todo 행을 만듦
+ */
+@Service
+@Transactional
+public class TodoTemplateService {
+
+    private final TodoTemplateRepository todoTemplateRepository;
+    private final TodoTemplateSkipRepository todoTemplateSkipRepository;
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoService todoService;
+    private final TodoChangeService todoChangeService;
+    private final UserDaySummaryService userDaySummaryService;
+    private final TodoDayCache todoDayCache;
+    private final TodoArchiveService todoArchiveService;
+    private final TodoCalendarService todoCalendarService;
+    private final TodoStatsService todoStatsService;
+
+    public TodoTemplateService(TodoTemplateRepository todoTemplateRepository,
+                               TodoTemplateSkipRepository todoTemplateSkipRepository,
+                               TodoRepository todoRepository,
+                               UserRepository userRepository,
+                               TodoService todoService,
+                               TodoChangeService todoChangeService,
+                               UserDaySummaryService userDaySummaryService,
+                               TodoDayCache todoDayCache,
+                               TodoArchiveService todoArchiveService,
+                               TodoCalendarService todoCalendarService,
+                               TodoStatsService todoStatsService) {
+        this.todoTemplateRepository = todoTemplateRepository;
+        this.todoTemplateSkipRepository = todoTemplateSkipRepository;
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoService = todoService;
+        this.todoChangeService = todoChangeService;
+        this.userDaySummaryService = userDaySummaryService;
+        this.todoDayCache = todoDayCache;
+        this.todoArchiveService = todoArchiveService;
+        this.todoCalendarService = todoCalendarService;
+        this.todoStatsService = todoStatsService;
+    }
+
+    /**
+     * 시작일이 지난 날짜면 이미 집계한 지난 날짜 통계에도 펼쳐진 항목을 미완료로 더함
+     */
+    public TodoTemplateResponse createTemplate(Long userId, TodoTemplateRequest request) {
+        LocalDate startDate = request.startDate() != null ? request.startDate() : LocalDate.now();
+        TodoTemplate template = new TodoTemplate(userRepository.getActiveReference(userId), request.title(),
+                TodoTemplate.toDaysOfWeek(request.daysOfWeek()), startDate);
+        template = todoTemplateRepository.save(template);
+        if (startDate.isBefore(LocalDate.now())) {
+            todoStatsService.recordPastOccurrences(userId, template);
+        }
+        todoDayCache.evictUser(userId);
+        todoCalendarService.recordTemplateChange(userId);
+        return TodoTemplateResponse.from(template);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoTemplateResponse> getTemplates(Long userId) {
+        return todoTemplateRepository.findActiveByUserId(userId, LocalDate.now()).stream()
+                .map(TodoTemplateResponse::from)
+                .toList();
+    }
+
+    /**
+     * 오늘부터 반복하지 않음
+     * - 이미 저장된 항목(완료/수정한 Todo)은 일반 Todo로 남음
+     * - 날짜별 목록 ETag에 템플릿 버전이 포함되므로 펼쳐진 항목이 바로 사라짐
+     */
+    public void endTemplate(Long userId, Long templateId) {
+        TodoTemplate template = findOwnedTemplate(userId, templateId);
+        template.end(LocalDate.now().minusDays(1));
+        todoDayCache.evictUser(userId);
+        todoCalendarService.recordTemplateChange(userId);
+    }
+
+    /**
+     * date 항목을 Todo 행으로 저장하고 반환 (완료/수정 전에 호출)
+     * - 저장된 항목 확인은 todos만 읽으므로 보관 기준일 이전 날짜는 거부 (보관된 항목과 중복 저장 방지)
+     */
+    public TodoResponse materializeOccurrence(Long userId, Long templateId, LocalDate date) {
+        checkNotArchived(date);
+        TodoTemplate template = findOwnedTemplate(userId, templateId);
+        if (!template.occursOn(date)) {
+            throw new RuntimeException("Template does not occur on " + date);
+        }
+        return todoService.materializeOccurrence(userId, template, date);
+    }
+
+    /**
+     * date 항목을 건너뜀 (저장된 행이 있으면 Todo 삭제와 같고, 없으면 건너뛴 날짜만 남김)
+     * - 보관된 항목은 삭제할 수 없으므로 보관 기준일 이전 날짜는 거부
+     */
+    public void skipOccurrence(Long userId, Long templateId, LocalDate date) {
+        checkNotArchived(date);
+        TodoTemplate template = findOwnedTemplate(userId, templateId);
+        LocalDate today = LocalDate.now();
+        todoChangeService.nextChangeSeq(userId);
+
+        TodoResponse stored = todoRepository.findResponseByTemplateIdAndDate(templateId, date, today).orElse(null);
+        if (stored != null) {
+            todoService.deleteTodo(userId, stored.id());
+            return;
+        }
+        if (template.occursOn(date) && todoTemplateSkipRepository.insertIgnore(templateId, date, userId) > 0) {
+            // 저장된 행이 없어도 날짜별 목록이 바뀌므로 요약 버전(ETag)을 올림
+            userDaySummaryService.recordChange(userId, date, 0, 0);
+            if (date.isBefore(today)) {
+                // 지난 날짜 통계는 펼쳐진 항목을 미완료 Todo로 세었으므로 뺌
+                todoStatsService.recordPastDayChange(userId, date, -1, 0);
+            }
+            todoDayCache.evictDay(userId, date);
+            todoCalendarService.recordTemplateChange(userId);
+        }
+    }
+
+    public void deleteByUserId(Long userId) {
+        todoTemplateSkipRepository.deleteByUserId(userId);
+        todoTemplateRepository.deleteByUserId(userId);
+    }
+
+    private void checkNotArchived(LocalDate date) {
+        if (todoArchiveService.isArchivedDate(date)) {
+            throw new RuntimeException("Archived date is read-only: " + date);
+        }
+    }
+
+    private TodoTemplate findOwnedTemplate(Long userId, Long templateId) {
+        return todoTemplateRepository.findByIdAndUserId(templateId, userId)
+                .orElseThrow(() -> new RuntimeException("Template not found or unauthorized"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class TodoTombstonePurgeScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoTombstonePurgeScheduler.class);
+    private static final String LEASE_NAME = "todo-tombstone-purge";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(30);
+
+    private final TodoChangeService todoChangeService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public TodoTombstonePurgeScheduler(TodoChangeService todoChangeService,
+                                       SchedulerLeaseService schedulerLeaseService) {
+        this.todoChangeService = todoChangeService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 매일 새벽 보관 기간이 지난 Todo 삭제 기록을 정리합니다.
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    public void purgeExpiredTombstones() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int purged = todoChangeService.purgeExpiredTombstones();
+            if (purged > 0) {
+                logger.info("Purged {} todo tombstones", purged);
+            }
+        });
+    }
+}
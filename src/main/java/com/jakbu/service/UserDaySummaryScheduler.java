@@ -0,0 +1,54 @@
+package com.jakbu.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class UserDaySummaryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDaySummaryScheduler.class);
+    private static final String LEASE_NAME = "user-day-summary-verify";
+    private static final Duration LEASE_TIME = Duration.ofHours(1);
+
+    private final UserDaySummaryService userDaySummaryService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    public UserDaySummaryScheduler(UserDaySummaryService userDaySummaryService,
+                                   SchedulerLeaseService schedulerLeaseService) {
+        this.userDaySummaryService = userDaySummaryService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    /**
+     * 요약 테이블이 비어 있으면(최초 배포) todos로부터 전체를 만듦
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        if (!userDaySummaryService.isEmpty()) {
+            return;
+        }
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int chunks = userDaySummaryService.verifyAndRepair(true);
+            logger.info("Built user_day_summary in {} chunks", chunks);
+        });
+    }
+
+    /**
+     * 매일 새벽 요약과 todos를 비교해 어긋난 구간을 다시 계산합니다.
+     */
+    @Scheduled(cron = "${todo.summary.verify-cron:0 0 4 * * *}")
+    public void verifySummaries() {
+        schedulerLeaseService.runExclusively(LEASE_NAME, LEASE_TIME, () -> {
+            int repaired = userDaySummaryService.verifyAndRepair(false);
+            if (repaired > 0) {
+                logger.warn("Repaired {} user_day_summary chunks", repaired);
+            }
+        });
+    }
+}
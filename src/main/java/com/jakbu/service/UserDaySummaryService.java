@@ -0,0 +1,187 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.JobCheckpoint;
+import com.jakbu.domain.UserDaySummaryId;
+import com.jakbu.repository.JobCheckpointRepository;
+import com.jakbu.repository.UserDaySummaryRepository;
+import com.jakbu.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자/날짜별 Todo 요약(user_day_summary) 관리
+ * - Todo 변경 시 호출자의 트랜잭션 안에서 개수를 증감
+ * - 누락/불일치는 verifyAndRepair가 todos 기준으로 다시 맞춤
+ */
+@Service
+@Transactional
+public class UserDaySummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDaySummaryService.class);
+
+    private static final String RESET_JOB_NAME = "daily-todo-reset";
+
+    private final UserDaySummaryRepository userDaySummaryRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TodoStatsService todoStatsService;
+    private final int rebuildChunkSize;
+    private final int resetChunkSize;
+    private final Timer resetTimer;
+    private final Counter resetRows;
+    private final AtomicLong lastResetRowsPerSecond = new AtomicLong();
+
+    public UserDaySummaryService(UserDaySummaryRepository userDaySummaryRepository,
+                                 UserRepository userRepository,
+                                 JobCheckpointRepository jobCheckpointRepository,
+                                 TodoStatsService todoStatsService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${todo.summary.rebuild-chunk-size:1000}") int rebuildChunkSize,
+                                 @Value("${todo.reset.chunk-size:1000}") int resetChunkSize) {
+        this.userDaySummaryRepository = userDaySummaryRepository;
+        this.userRepository = userRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.todoStatsService = todoStatsService;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.resetChunkSize = resetChunkSize;
+        this.resetTimer = meterRegistry.timer("todo.reset.duration");
+        this.resetRows = meterRegistry.counter("todo.reset.rows");
+        meterRegistry.gauge("todo.reset.rows-per-second", lastResetRowsPerSecond);
+    }
+
+    /**
+     * 개수 변화가 없어도(제목 수정 등) 버전은 올라감
+     */
+    public void recordChange(Long userId, LocalDate date, int totalDelta, int doneDelta) {
+        userDaySummaryRepository.applyDelta(userId, date, totalDelta, doneDelta, System.currentTimeMillis());
+    }
+
+    /**
+     * 해당 날짜 Todo 목록의 버전 (Todo가 한 번도 없었던 날짜는 0)
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long userId, LocalDate date) {
+        return userDaySummaryRepository.findVersion(userId, date).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasIncompleteTodos(Long userId, LocalDate date) {
+        return userDaySummaryRepository.existsIncomplete(userId, date);
+    }
+
+    /**
+     * 이전 날짜의 완료 수를 사용자 ID 구간 단위로 today 기준으로 다시 계산 (자정 실행)
+     * - 이미 끝난 회차면 아무것도 하지 않고, 중단된 회차면 이어서 처리
+     * - 새 회차는 시작 시점의 최대 사용자 ID까지만 처리 (이후 가입자는 지난 날짜 요약이 없음)
+     * @return 완료 수가 바뀐 요약 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int resetDoneBefore(LocalDate today) {
+        String runKey = today.toString();
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(RESET_JOB_NAME).orElse(null);
+        if (checkpoint != null && checkpoint.getRunKey().equals(runKey)) {
+            return checkpoint.isFinished() ? 0 : runReset(today, checkpoint.getLastPosition() + 1, checkpoint.getTargetPosition());
+        }
+
+        long target = userRepository.findMaxId();
+        jobCheckpointRepository.start(RESET_JOB_NAME, runKey, target, LocalDateTime.now());
+        return runReset(today, 1, target);
+    }
+
+    /**
+     * 시작 시 호출: 시작했지만 끝나지 않은 회차만 이어서 처리
+     * - 마지막 회차가 오늘 이전이면(모든 인스턴스가 자정에 내려가 있었던 경우) 오늘 회차를 시작
+     * - 기록이 없으면(최초 배포) 요약/통계 초기 구축이 현재 상태로 만들므로 실행하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int resumeResetBefore(LocalDate today) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(RESET_JOB_NAME).orElse(null);
+        if (checkpoint == null) {
+            return 0;
+        }
+        if (LocalDate.parse(checkpoint.getRunKey()).isBefore(today)) {
+            logger.warn("Midnight reset for {} did not run, starting it now", today);
+        }
+        return resetDoneBefore(today);
+    }
+
+    /**
+     * 구간마다 어제 요약을 통계(TodoStatsService)에 먼저 반영한 뒤, 완료 수가 남은 이전 날짜 행만 다시 계산
+     * - 구간마다 별도 트랜잭션이라 잠금은 한 구간의 대상 행을 처리하는 동안만 유지됨
+     * - 구간을 커밋할 때마다 진행 위치를 남기므로, 중단되면 같은 날짜로 다시 실행할 때 이어서 처리
+     */
+    private int runReset(LocalDate today, long start, long target) {
+        String runKey = today.toString();
+        long startedAt = System.nanoTime();
+        int reset = 0;
+        for (long from = start; from <= target; from += resetChunkSize) {
+            long to = Math.min(from + resetChunkSize - 1, target);
+            todoStatsService.rollOverDay(today.minusDays(1), from, to);
+            List<UserDaySummaryId> keys = userDaySummaryRepository.findDoneKeysBefore(from, to, today);
+            if (!keys.isEmpty()) {
+                reset += userDaySummaryRepository.recomputeDone(keys, today);
+            }
+            jobCheckpointRepository.record(RESET_JOB_NAME, runKey, to, LocalDateTime.now());
+        }
+        jobCheckpointRepository.finish(RESET_JOB_NAME, runKey, LocalDateTime.now());
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        long rowsPerSecond = Math.round(reset / Math.max(elapsed.toNanos() / 1e9, 0.001));
+        resetTimer.record(elapsed);
+        resetRows.increment(reset);
+        lastResetRowsPerSecond.set(rowsPerSecond);
+        logger.info("Recomputed done counts of {} user_day_summary rows (users {}-{}) in {} ms, {} rows/s",
+                reset, start, target, elapsed.toMillis(), rowsPerSecond);
+        return reset;
+    }
+
+    public void deleteByUserId(Long userId) {
+        userDaySummaryRepository.deleteByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return userDaySummaryRepository.count() == 0;
+    }
+
+    /**
+     * 사용자 ID 구간 단위로 요약과 todos 집계를 비교해 다른 구간만 다시 계산
+     * - 구간마다 별도 트랜잭션이라 한 번에 전체 테이블을 잠그지 않음
+     * - 전체 재구축이 필요하면 force = true
+     * @return 다시 계산한 구간 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int verifyAndRepair(boolean force) {
+        long maxUserId = userRepository.findMaxId();
+        LocalDate today = LocalDate.now();
+        int repairedChunks = 0;
+
+        for (long from = 1; from <= maxUserId; from += rebuildChunkSize) {
+            long to = from + rebuildChunkSize - 1;
+            long mismatches = force ? -1 : userDaySummaryRepository.countMismatches(from, to, today);
+            if (mismatches == 0) {
+                continue;
+            }
+
+            userDaySummaryRepository.rebuildRange(from, to, today, System.currentTimeMillis());
+            repairedChunks++;
+            if (!force) {
+                logger.warn("Rebuilt user_day_summary for users {}-{} ({} mismatched rows)", from, to, mismatches);
+            }
+        }
+        return repairedChunks;
+    }
+}
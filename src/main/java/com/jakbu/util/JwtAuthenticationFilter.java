@@ -1,5 +1,6 @@
 package com.jakbu.util;
 
+import com.jakbu.service.AccountDeletionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,9 +19,11 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AccountDeletionService accountDeletionService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AccountDeletionService accountDeletionService) {
         this.jwtUtil = jwtUtil;
+        this.accountDeletionService = accountDeletionService;
     }
 
     @Override
@@ -31,7 +34,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null && jwtUtil.validateToken(token)) {
             Long userId = jwtUtil.getUserIdFromToken(token);
-            
+            // 탈퇴를 요청한 계정의 토큰은 만료 전이라도 인증하지 않음
+            if (accountDeletionService.isRevoked(userId)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userId,
                     null,
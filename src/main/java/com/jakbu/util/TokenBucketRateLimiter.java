@@ -0,0 +1,44 @@
+package com.jakbu.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량만큼 토큰이 채워지는 토큰 버킷
+ * - 버킷 용량(초당 허용량)까지 순간 버스트를 허용
+ * - 토큰이 부족하면 부족분을 빚으로 남기고, 호출자는 빚이 갚아질 때까지 대기
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(int permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.capacity = permitsPerSecond;
+        this.availablePermits = permitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            availablePermits -= permits;
+            waitNanos = availablePermits >= 0 ? 0 : (long) (-availablePermits / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(capacity, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jakbu.service;
+
+/**
+ * 벤치마크 결과 집계 유틸리티
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 정렬된 측정값 size개 중 percentile(0.0 ~ 1.0) 위치의 인덱스 (nearest-rank)
+     */
+    static int percentileIndex(int size, double percentile) {
+        return Math.max(0, (int) Math.ceil(percentile * size) - 1);
+    }
+}
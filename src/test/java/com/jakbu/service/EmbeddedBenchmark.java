@@ -0,0 +1,37 @@
+package com.jakbu.service;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 임베디드 DB(H2, MySQL 모드)로 애플리케이션 전체를 띄우는 벤치마크 공통 설정
+ * - 주기 작업과 실제 푸시 발송을 끄고, 벤치마크별 DB URL과 추가 설정은 @TestPropertySource로 지정
+ * - benchmark 태그가 붙어 ./gradlew test에서는 제외되고 ./gradlew benchmark로만 실행
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.level.com.jakbu=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "jwt.secret=embedded-benchmark-secret-key-0123456789abcdef",
+        "notification.gateway=stub",
+        "notification.reminder.cron=-",
+        "notification.outbox.poll-interval-ms=3600000",
+        "scheduler.membership.heartbeat-interval-ms=3600000"
+})
+@interface EmbeddedBenchmark {
+}
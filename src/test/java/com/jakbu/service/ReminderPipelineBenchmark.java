@@ -0,0 +1,137 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.enums.IntervalType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 DB와 스텁 푸시 게이트웨이로 알림 파이프라인 전체(슬롯 스캔 → outbox 적재 → 점유 → 발송 → 결과 반영)를 측정
+ * - 10만 명의 TWO_HOUR 사용자에 대해 2시간 주기(120개 슬롯)를 빠르게 돌려 초당 발송 수와 p99 회차 소요 시간을 출력
+ * - 실행: ./gradlew benchmark
+ */
+@EmbeddedBenchmark
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reminder-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "notification.stub.latency-ms=20",
+        "notification.stub.error-rate=0.01",
+        "notification.stub.invalid-token-rate=0.001",
+        "notification.outbox.backoff-base-seconds=0",
+        "notification.dispatch.concurrency=32",
+        "notification.dispatch.rate-per-second=1000000"
+})
+class ReminderPipelineBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final long DRAIN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    @Autowired
+    private PushNotificationScheduler pushNotificationScheduler;
+
+    @Autowired
+    private PushOutboxWorker pushOutboxWorker;
+
+    @Autowired
+    private StubPushGateway stubPushGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${notification.sharding.shard-count}")
+    private int shardCount;
+
+    @BeforeEach
+    void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date today = Date.valueOf(LocalDate.now());
+
+        for (int from = 1; from <= USER_COUNT; from += INSERT_BATCH_SIZE) {
+            List<Object[]> users = new ArrayList<>();
+            List<Object[]> settings = new ArrayList<>();
+            List<Object[]> todos = new ArrayList<>();
+            List<Object[]> summaries = new ArrayList<>();
+            for (long id = from; id < from + INSERT_BATCH_SIZE && id <= USER_COUNT; id++) {
+                users.add(new Object[]{id, "user" + id, "password", "user" + id, "token-" + id, now, now});
+                settings.add(new Object[]{id, id, IntervalType.TWO_HOUR.name(), true, IntervalType.TWO_HOUR.slotOf(id)});
+                todos.add(new Object[]{id, id, "habit", today, "TODO"});
+                summaries.add(new Object[]{id, today, 1, 0, 1});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (id, account_id, password, name, fcm_token, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+            jdbcTemplate.batchUpdate("INSERT INTO notification_settings (id, user_id, interval_type, enabled, reminder_slot) " +
+                    "VALUES (?, ?, ?, ?, ?)", settings);
+            jdbcTemplate.batchUpdate("INSERT INTO todos (id, user_id, title, date, status) VALUES (?, ?, ?, ?, ?)", todos);
+            jdbcTemplate.batchUpdate("INSERT INTO user_day_summary (user_id, date, total, done, version) VALUES (?, ?, ?, ?, ?)", summaries);
+        }
+    }
+
+    @Test
+    void twoHourReminderCycle() throws InterruptedException {
+        int slotCount = IntervalType.TWO_HOUR.getSlotCount();
+        List<Long> runNanos = new ArrayList<>(slotCount);
+
+        long cycleStart = System.nanoTime();
+        for (int minute = 0; minute < slotCount; minute++) {
+            // 0시~1시대를 사용하므로 DAILY 슬롯(9시대)은 실행되지 않음
+            LocalTime time = LocalTime.of(minute / 60, minute % 60);
+
+            long runStart = System.nanoTime();
+            for (int shard = 0; shard < shardCount; shard++) {
+                pushNotificationScheduler.sendRemindersForMinute(LocalDate.now().atTime(time), shard);
+            }
+            drainOutbox();
+            runNanos.add(System.nanoTime() - runStart);
+        }
+        long cycleNanos = System.nanoTime() - cycleStart;
+
+        long delivered = stubPushGateway.getDeliveredCount();
+        double seconds = cycleNanos / 1_000_000_000.0;
+        Collections.sort(runNanos);
+        long p50 = runNanos.get(BenchmarkSupport.percentileIndex(runNanos.size(), 0.50));
+        long p99 = runNanos.get(BenchmarkSupport.percentileIndex(runNanos.size(), 0.99));
+
+        System.out.printf("Reminder pipeline: %d users, %d slots, %d FCM requests, %d delivered in %.2fs%n",
+                USER_COUNT, slotCount, stubPushGateway.getRequestCount(), delivered, seconds);
+        System.out.printf("Throughput: %.0f sends/s, run duration p50 %d ms, p99 %d ms%n",
+                delivered / seconds, TimeUnit.NANOSECONDS.toMillis(p50), TimeUnit.NANOSECONDS.toMillis(p99));
+
+        // 만료된 토큰을 제외한 거의 모든 사용자가 알림을 받아야 함
+        assertThat(delivered).isGreaterThan((long) (USER_COUNT * 0.99));
+    }
+
+    /**
+     * 대기/발송 중인 메시지가 없어질 때까지 워커를 돌림 (재시도 포함)
+     */
+    private void drainOutbox() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        while (countUnfinished() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Push outbox was not drained within " + DRAIN_TIMEOUT_MILLIS + " ms");
+            }
+            pushOutboxWorker.dispatchDueMessages();
+            Thread.sleep(5);
+        }
+    }
+
+    private int countUnfinished() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM push_outbox WHERE status IN ('PENDING', 'SENDING')", Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.SchedulerLease;
+import com.jakbu.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 임베디드 DB를 공유하는 두 애플리케이션 컨텍스트를 두 인스턴스로 보고 리스 동작을 검증
+ */
+class SchedulerLeaseServiceTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private static SchedulerLeaseService leaseA;
+    private static SchedulerLeaseService leaseB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+        leaseA = nodeA.getBean(SchedulerLeaseService.class);
+        leaseB = nodeB.getBean(SchedulerLeaseService.class);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void onlyOneNodeHoldsAnActiveLease() {
+        assertThat(leaseA.tryAcquire("active-lease", Duration.ofMinutes(1))).isTrue();
+        assertThat(leaseB.tryAcquire("active-lease", Duration.ofMinutes(1))).isFalse();
+
+        // 리스를 가진 인스턴스는 연장 가능
+        assertThat(leaseA.tryAcquire("active-lease", Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverByAnotherNode() throws InterruptedException {
+        assertThat(leaseA.tryAcquire("expired-lease", Duration.ofMillis(10))).isTrue();
+        Thread.sleep(50);
+
+        assertThat(leaseB.tryAcquire("expired-lease", Duration.ofMinutes(1))).isTrue();
+        assertThat(leaseA.tryAcquire("expired-lease", Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    void releasedLeaseIsImmediatelyAvailable() {
+        assertThat(leaseA.tryAcquire("released-lease", Duration.ofMinutes(1))).isTrue();
+        leaseA.release("released-lease");
+
+        assertThat(leaseB.tryAcquire("released-lease", Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    void jobRunsOnlyOnceAcrossNodes() {
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ranOnA = leaseA.runExclusively("exclusive-job", Duration.ofMinutes(1), runs::incrementAndGet);
+        boolean ranOnB = leaseB.runExclusively("exclusive-job", Duration.ofMinutes(1), runs::incrementAndGet);
+
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isFalse();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    private static ConfigurableApplicationContext startNode(String holderId) {
+        // application.yml의 환경변수 기반 설정보다 우선하도록 커맨드라인 인자로 전달
+        return new SpringApplicationBuilder(LeaseTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:scheduler-lease;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--scheduler.lease.holder-id=" + holderId);
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = SchedulerLease.class)
+    @EnableJpaRepositories(
+            basePackageClasses = SchedulerLeaseRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SchedulerLeaseRepository.class))
+    @Import(SchedulerLeaseService.class)
+    static class LeaseTestConfig {
+    }
+}
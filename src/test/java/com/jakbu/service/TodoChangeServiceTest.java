@@ -0,0 +1,141 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.TodoChangeCursor;
+import com.jakbu.dto.TodoChangesResponse;
+import com.jakbu.dto.TodoResponse;
+import com.jakbu.repository.TodoChangeCursorRepository;
+import com.jakbu.repository.TodoRepository;
+import com.jakbu.repository.TodoTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 변경 조회 커서(변경 번호 * 1_000_000 + 동기화한 날짜의 epoch day) 해석과 전체 동기화 전환을 검증
+ */
+class TodoChangeServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final long CURSOR_DAY_FACTOR = 1_000_000L;
+
+    private final TodoChangeCursorRepository cursorRepository = mock(TodoChangeCursorRepository.class);
+    private final TodoTombstoneRepository tombstoneRepository = mock(TodoTombstoneRepository.class);
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoChangeService todoChangeService =
+            new TodoChangeService(cursorRepository, tombstoneRepository, todoRepository, 30);
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        when(todoRepository.findResponsesByUserId(USER_ID, today)).thenReturn(List.of(todo(1L)));
+    }
+
+    @Test
+    void cursorEncodesSeqAndToday() {
+        givenCursor(7, 0);
+
+        TodoChangesResponse response = todoChangeService.getChangesSince(USER_ID, 0);
+
+        assertThat(response.cursor()).isEqualTo(7 * CURSOR_DAY_FACTOR + today.toEpochDay());
+        assertThat(response.cursor() / CURSOR_DAY_FACTOR).isEqualTo(7);
+        assertThat(LocalDate.ofEpochDay(response.cursor() % CURSOR_DAY_FACTOR)).isEqualTo(today);
+    }
+
+    @Test
+    void cursorFromTodayReadsOnlyChangedSeqs() {
+        givenCursor(7, 0);
+        when(todoRepository.findResponsesChangedBetween(USER_ID, 5, 7, today)).thenReturn(List.of(todo(2L)));
+        when(tombstoneRepository.findTodoIdsChangedBetween(USER_ID, 5, 7)).thenReturn(List.of(3L));
+
+        TodoChangesResponse response = todoChangeService.getChangesSince(USER_ID, cursor(5, today));
+
+        assertThat(response.fullSync()).isFalse();
+        assertThat(response.changed()).extracting(TodoResponse::id).containsExactly(2L);
+        assertThat(response.deleted()).containsExactly(3L);
+        verify(todoRepository, never()).findResponsesExpiredBetween(any(), any(), any());
+    }
+
+    @Test
+    void cursorFromAnEarlierDayAlsoReturnsTodosThatExpiredSince() {
+        givenCursor(7, 0);
+        LocalDate syncedOn = today.minusDays(1);
+        when(todoRepository.findResponsesChangedBetween(USER_ID, 5, 7, today)).thenReturn(List.of(todo(2L)));
+        when(todoRepository.findResponsesExpiredBetween(USER_ID, syncedOn, today)).thenReturn(List.of(todo(2L), todo(4L)));
+
+        TodoChangesResponse response = todoChangeService.getChangesSince(USER_ID, cursor(5, syncedOn));
+
+        assertThat(response.fullSync()).isFalse();
+        assertThat(response.changed()).extracting(TodoResponse::id).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void missingCursorFallsBackToFullSync() {
+        assertFullSync(todoChangeService.getChangesSince(USER_ID, 0));
+        verify(todoRepository, never()).findResponsesChangedBetween(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void cursorOlderThanPurgedTombstonesFallsBackToFullSync() {
+        givenCursor(7, 6);
+
+        assertFullSync(todoChangeService.getChangesSince(USER_ID, cursor(5, today)));
+    }
+
+    @Test
+    void cursorAheadOfServerFallsBackToFullSync() {
+        givenCursor(7, 0);
+
+        assertFullSync(todoChangeService.getChangesSince(USER_ID, cursor(8, today)));
+    }
+
+    @Test
+    void cursorFromAFutureDayFallsBackToFullSync() {
+        givenCursor(7, 0);
+
+        assertFullSync(todoChangeService.getChangesSince(USER_ID, cursor(5, today.plusDays(1))));
+    }
+
+    @Test
+    void cursorForUserWithoutChangesFallsBackToFullSync() {
+        when(cursorRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        TodoChangesResponse response = todoChangeService.getChangesSince(USER_ID, cursor(1, today));
+
+        assertFullSync(response);
+        assertThat(response.cursor()).isEqualTo(today.toEpochDay());
+    }
+
+    private void givenCursor(long seq, long purgedSeq) {
+        TodoChangeCursor cursor = mock(TodoChangeCursor.class);
+        when(cursor.getSeq()).thenReturn(seq);
+        when(cursor.getPurgedSeq()).thenReturn(purgedSeq);
+        when(cursorRepository.findById(USER_ID)).thenReturn(Optional.of(cursor));
+    }
+
+    private static long cursor(long seq, LocalDate syncedOn) {
+        return seq * CURSOR_DAY_FACTOR + syncedOn.toEpochDay();
+    }
+
+    private static void assertFullSync(TodoChangesResponse response) {
+        assertThat(response.fullSync()).isTrue();
+        assertThat(response.changed()).extracting(TodoResponse::id).containsExactly(1L);
+        assertThat(response.deleted()).isEmpty();
+    }
+
+    private static TodoResponse todo(Long id) {
+        return new TodoResponse(id, "title", LocalDate.now(), null, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.Todo;
+import com.jakbu.domain.enums.TodoStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자정 초기화 없이 계산하는 Todo 상태(Todo.getStatusOn)를 자정 경계에서 검증
+ * - 완료된 Todo는 날짜와 완료한 날이 모두 today 이전이 되는 순간 TODO로 계산됨
+ */
+class TodoEffectiveStatusTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Test
+    void completedTodoStaysDoneUntilMidnight() {
+        Todo todo = completedTodo(DAY, DAY.atTime(LocalTime.MAX));
+
+        assertThat(todo.getStatusOn(DAY)).isEqualTo(TodoStatus.DONE);
+        assertThat(todo.getStatusOn(DAY.plusDays(1))).isEqualTo(TodoStatus.TODO);
+    }
+
+    @Test
+    void pastTodoCompletedAfterMidnightIsDoneForTheCompletionDay() {
+        Todo todo = completedTodo(DAY, DAY.plusDays(1).atStartOfDay());
+
+        assertThat(todo.getStatusOn(DAY.plusDays(1))).isEqualTo(TodoStatus.DONE);
+        assertThat(todo.getStatusOn(DAY.plusDays(2))).isEqualTo(TodoStatus.TODO);
+    }
+
+    @Test
+    void futureTodoCompletedEarlyStaysDoneThroughItsDate() {
+        Todo todo = completedTodo(DAY.plusDays(2), DAY.atTime(9, 0));
+
+        assertThat(todo.getStatusOn(DAY.plusDays(1))).isEqualTo(TodoStatus.DONE);
+        assertThat(todo.getStatusOn(DAY.plusDays(2))).isEqualTo(TodoStatus.DONE);
+        assertThat(todo.getStatusOn(DAY.plusDays(3))).isEqualTo(TodoStatus.TODO);
+    }
+
+    @Test
+    void storedDoneStatusWithoutCompletionTimeIsTodo() {
+        Todo todo = new Todo(null, "title", DAY);
+        ReflectionTestUtils.setField(todo, "status", TodoStatus.DONE);
+
+        assertThat(todo.getStatusOn(DAY)).isEqualTo(TodoStatus.TODO);
+    }
+
+    private static Todo completedTodo(LocalDate date, LocalDateTime completedAt) {
+        Todo todo = new Todo(null, "title", date);
+        todo.markDone();
+        ReflectionTestUtils.setField(todo, "completedAt", completedAt);
+        return todo;
+    }
+}
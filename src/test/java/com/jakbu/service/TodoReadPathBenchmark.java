@@ -0,0 +1,145 @@
+package com.jakbu.service;
+
+import com.jakbu.domain.Todo;
+import com.jakbu.dto.TodoResponse;
+import com.jakbu.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 날짜별 Todo 조회의 엔티티 경로(변경 전)와 DTO 프로젝션 경로(변경 후)를 같은 데이터로 비교
+ * - 요청 하나(읽기 전용 트랜잭션 + 조회 + 응답 DTO 변환)당 할당 바이트와 p50/p99 지연을 출력
+ * - 실행: ./gradlew benchmark
+ */
+@EmbeddedBenchmark
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:todo-read-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class TodoReadPathBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int DAYS = 30;
+    private static final int TODOS_PER_DAY = 8;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 50_000;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private LocalDate firstDay;
+
+    @BeforeEach
+    void seedTodos() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        firstDay = LocalDate.now().minusDays(DAYS - 1);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long todoId = 1;
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            jdbcTemplate.update("INSERT INTO users (id, account_id, password, name, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)", userId, "user" + userId, "password", "user" + userId, now, now);
+
+            List<Object[]> todos = new ArrayList<>(DAYS * TODOS_PER_DAY);
+            for (int day = 0; day < DAYS; day++) {
+                Date date = Date.valueOf(firstDay.plusDays(day));
+                for (int i = 0; i < TODOS_PER_DAY; i++) {
+                    todos.add(new Object[]{todoId++, userId, "habit " + i, date, i % 2 == 0 ? "DONE" : "TODO"});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO todos (id, user_id, title, date, status) VALUES (?, ?, ?, ?, ?)", todos);
+        }
+    }
+
+    @Test
+    void entityVersusProjection() {
+        Supplier<List<TodoResponse>> entityPath = () -> {
+            long userId = randomUserId();
+            LocalDate date = randomDate();
+            LocalDate today = LocalDate.now();
+            List<Todo> todos = todoRepository.findByUserIdAndDate(userId, date);
+            return todos.stream()
+                    .map(todo -> new TodoResponse(todo.getId(), todo.getTitle(), todo.getDate(), todo.getStatusOn(today), todo.getTemplateId()))
+                    .collect(Collectors.toList());
+        };
+        Supplier<List<TodoResponse>> projectionPath = () ->
+                todoRepository.findRecentResponsesByUserIdAndDate(randomUserId(), randomDate(), LocalDate.now());
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        System.out.printf("Todo read path (%d todos per request, %d requests)%n", TODOS_PER_DAY, MEASURED_REQUESTS);
+        entity.print("entity    ");
+        projection.print("projection");
+
+        assertThat(projection.bytesPerRequest()).isLessThan(entity.bytesPerRequest());
+    }
+
+    private Result measure(Supplier<List<TodoResponse>> path) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            runRequest(path);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<Long> latencies = new ArrayList<>(MEASURED_REQUESTS);
+
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long start = System.nanoTime();
+            runRequest(path);
+            latencies.add(System.nanoTime() - start);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Collections.sort(latencies);
+        return new Result(allocated / MEASURED_REQUESTS,
+                latencies.get(BenchmarkSupport.percentileIndex(latencies.size(), 0.50)),
+                latencies.get(BenchmarkSupport.percentileIndex(latencies.size(), 0.99)));
+    }
+
+    private void runRequest(Supplier<List<TodoResponse>> path) {
+        List<TodoResponse> todos = readOnlyTransaction.execute(status -> path.get());
+        assertThat(todos).hasSize(TODOS_PER_DAY);
+    }
+
+    private static long randomUserId() {
+        return 1 + (long) (Math.random() * USER_COUNT);
+    }
+
+    private LocalDate randomDate() {
+        return firstDay.plusDays((long) (Math.random() * DAYS));
+    }
+
+    private record Result(long bytesPerRequest, long p50Nanos, long p99Nanos) {
+
+        void print(String label) {
+            System.out.printf("%s: %,d bytes/request, p50 %d us, p99 %d us%n", label, bytesPerRequest,
+                    TimeUnit.NANOSECONDS.toMicros(p50Nanos), TimeUnit.NANOSECONDS.toMicros(p99Nanos));
+        }
+    }
+}